@@ -0,0 +1,82 @@
+package checkers.benchmarks;
+
+import checkers.core.engine.ComputerStrategy;
+import checkers.core.engine.SearchEngine;
+import checkers.hosting.BaseData;
+import checkers.hosting.interfaces.BaseDataService;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Configures the computer player for reproducible measurements: a fixed search depth without time limit,
+ * a single search thread and a small transposition table.
+ */
+public class BenchmarkBaseData implements BaseDataService {
+
+    private final BaseDataService baseDataService;
+    private final ComputerStrategy computerStrategy;
+    private final int searchDepth;
+
+    public BenchmarkBaseData(ComputerStrategy computerStrategy, int searchDepth) {
+        this.baseDataService = new BaseData();
+        this.computerStrategy = computerStrategy;
+        this.searchDepth = searchDepth;
+    }
+
+    @Override
+    public int getSquareNumber() {
+        return baseDataService.getSquareNumber();
+    }
+
+    @Override
+    public int getSquareSize() {
+        return baseDataService.getSquareSize();
+    }
+
+    @Override
+    public ComputerStrategy getComputerStrategy() {
+        return computerStrategy;
+    }
+
+    @Override
+    public int getSearchDepth() {
+        return searchDepth;
+    }
+
+    @Override
+    public long getMoveTimeMillis() {
+        return SearchEngine.NO_TIME_LIMIT;
+    }
+
+    @Override
+    public int getTranspositionTableMegabytes() {
+        return 1;
+    }
+
+    @Override
+    public int getSearchThreads() {
+        return 1;
+    }
+
+    @Override
+    public Path getTablebaseDirectory() {
+        return baseDataService.getTablebaseDirectory();
+    }
+
+    // The computer player has to search every move that is measured.
+    @Override
+    public Path getOpeningBookFile() {
+        return Paths.get("");
+    }
+
+    @Override
+    public Path getEvaluationWeightsFile() {
+        return baseDataService.getEvaluationWeightsFile();
+    }
+
+    @Override
+    public String getName() {
+        return BaseDataService.class.getSimpleName();
+    }
+}
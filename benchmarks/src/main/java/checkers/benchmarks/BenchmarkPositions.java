@@ -0,0 +1,32 @@
+package checkers.benchmarks;
+
+import checkers.core.board.Position;
+
+/**
+ * Provides realistic positions of the different phases of a game for the benchmarks.
+ */
+public final class BenchmarkPositions {
+
+    public static final String OPENING = "opening";
+    public static final String MIDDLEGAME = "middlegame";
+    public static final String ENDGAME = "endgame";
+    private static final String MIDDLEGAME_FEN = "B:R1,2,3,5,6,7,9,11,14:B18,21,22,23,24,26,27,30,31";
+    private static final String ENDGAME_FEN = "R:RK3,K10,19:B22,K27,32";
+
+    // No one should be able to create an instance of this class, because it only provides positions.
+    private BenchmarkPositions() {
+    }
+
+    public static Position get(String phase) {
+        switch (phase) {
+            case OPENING:
+                return Position.createStartingPosition();
+            case MIDDLEGAME:
+                return Position.fromFen(MIDDLEGAME_FEN);
+            case ENDGAME:
+                return Position.fromFen(ENDGAME_FEN);
+            default:
+                throw new IllegalArgumentException("Unknown game phase: " + phase);
+        }
+    }
+}
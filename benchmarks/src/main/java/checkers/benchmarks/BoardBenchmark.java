@@ -0,0 +1,79 @@
+package checkers.benchmarks;
+
+import checkers.core.board.FieldManager;
+import checkers.core.board.Move;
+import checkers.core.board.Piece;
+import checkers.core.board.Position;
+import checkers.core.logic.MoveGenerator;
+import checkers.core.logic.MoveList;
+import checkers.hosting.BaseData;
+import checkers.hosting.interfaces.FieldManagerService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures changing the board: moving pieces on the {@link FieldManager}, collecting the red kings,
+ * taking a bitboard snapshot and playing a move on the bitboard.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardBenchmark {
+
+    @Param({BenchmarkPositions.OPENING, BenchmarkPositions.MIDDLEGAME, BenchmarkPositions.ENDGAME})
+    public String phase;
+
+    private FieldManagerService fieldManagerService;
+    private Position position;
+    private long move;
+    private int fromRow;
+    private int fromCol;
+    private int toRow;
+    private int toCol;
+
+    @Setup
+    public void setUp() {
+        position = BenchmarkPositions.get(phase);
+        fieldManagerService = new FieldManager(new BaseData());
+        fieldManagerService.setPosition(position);
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(position, moves);
+        move = moves.get(0);
+        fromRow = Position.toRow(Move.getFrom(move));
+        fromCol = Position.toCol(Move.getFrom(move));
+        toRow = Position.toRow(Move.getTo(move));
+        toCol = Position.toCol(Move.getTo(move));
+    }
+
+    // Moves a piece one step and back again, so that the board is the same for every call.
+    @Benchmark
+    public Piece[][] movePiece() {
+        fieldManagerService.movePiece(toRow, toCol, fromRow, fromCol);
+        fieldManagerService.movePiece(fromRow, fromCol, toRow, toCol);
+        return fieldManagerService.getBoard();
+    }
+
+    @Benchmark
+    public List<Piece> updateRedKingPieces() {
+        fieldManagerService.updateRedKingPieces();
+        return fieldManagerService.getRedKingPieces();
+    }
+
+    @Benchmark
+    public Position getPosition() {
+        return fieldManagerService.getPosition();
+    }
+
+    @Benchmark
+    public long makeUnmakeMove() {
+        position.makeMove(move);
+        long hash = position.getHash();
+        position.unmakeMove();
+        return hash;
+    }
+}
@@ -0,0 +1,136 @@
+package checkers.benchmarks;
+
+import checkers.core.board.FieldManager;
+import checkers.core.board.Piece;
+import checkers.core.board.Position;
+import checkers.core.engine.ComputerStrategy;
+import checkers.core.logic.ComputerPlayer;
+import checkers.core.logic.SearchResources;
+import checkers.hosting.interfaces.BaseDataService;
+import checkers.hosting.interfaces.ComputerPlayerService;
+import checkers.hosting.interfaces.FieldManagerService;
+import checkers.hosting.interfaces.SearchResourcesService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a complete move of the computer player, from the snapshot of the board to the moved pieces.
+ *
+ * The computer player is created once per iteration. After every call the board is put back and the
+ * transposition table is cleared, so that no call profits from the calls before. Both only write into memory
+ * that already exists, so the allocated bytes per call are those of the move alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ComputerPlayerBenchmark {
+
+    @Param({BenchmarkPositions.OPENING, BenchmarkPositions.MIDDLEGAME, BenchmarkPositions.ENDGAME})
+    public String phase;
+
+    @Param({"GREEDY", "ALPHA_BETA"})
+    public ComputerStrategy strategy;
+
+    @Param({"6"})
+    public int searchDepth;
+
+    private BaseDataService baseDataService;
+    private SearchResourcesService searchResourcesService;
+    private Position position;
+    private FieldManagerService fieldManagerService;
+    private ComputerPlayerService computerPlayerService;
+    // The board of the position with the pieces where they stood before the call.
+    private Piece[][] startBoard;
+    private List<Piece> startBlackPieces;
+    private List<Piece> startRedPieces;
+    private Piece[] startPieces;
+    private int[] startRows;
+    private int[] startCols;
+    private boolean[] startKings;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        baseDataService = new BenchmarkBaseData(strategy, searchDepth);
+        searchResourcesService = new SearchResources(baseDataService);
+        position = BenchmarkPositions.get(phase);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        fieldManagerService = new FieldManager(baseDataService);
+        fieldManagerService.setPosition(position);
+        computerPlayerService = new ComputerPlayer(fieldManagerService, baseDataService, searchResourcesService);
+        rememberBoard();
+    }
+
+    @Benchmark
+    public FieldManagerService computerMove() {
+        computerPlayerService.computerMove();
+        resetBoard();
+        // Clearing the table takes longer than a greedy move, which never uses it.
+        if (strategy == ComputerStrategy.ALPHA_BETA) {
+            computerPlayerService.clearSearch();
+        }
+        return fieldManagerService;
+    }
+
+    private void rememberBoard() {
+        Piece[][] board = fieldManagerService.getBoard();
+        startBoard = new Piece[board.length][];
+        for (int row = 0; row < board.length; row++) {
+            startBoard[row] = board[row].clone();
+        }
+        startBlackPieces = new ArrayList<>(fieldManagerService.getBlackPieces());
+        startRedPieces = new ArrayList<>(fieldManagerService.getRedPieces());
+        List<Piece> pieces = new ArrayList<>(startBlackPieces);
+        pieces.addAll(startRedPieces);
+        startPieces = pieces.toArray(new Piece[0]);
+        startRows = new int[startPieces.length];
+        startCols = new int[startPieces.length];
+        startKings = new boolean[startPieces.length];
+        for (int i = 0; i < startPieces.length; i++) {
+            startRows[i] = startPieces[i].getRow();
+            startCols[i] = startPieces[i].getCol();
+            startKings[i] = startPieces[i].isKing();
+        }
+    }
+
+    // A crowned piece cannot become a man again, in that rare case the board is set up with new pieces.
+    private void resetBoard() {
+        for (int i = 0; i < startPieces.length; i++) {
+            if (startPieces[i].isKing() != startKings[i]) {
+                fieldManagerService.setPosition(position);
+                rememberBoard();
+                return;
+            }
+        }
+        Piece[][] board = fieldManagerService.getBoard();
+        for (int row = 0; row < board.length; row++) {
+            System.arraycopy(startBoard[row], 0, board[row], 0, board[row].length);
+        }
+        for (int i = 0; i < startPieces.length; i++) {
+            startPieces[i].setRow(startRows[i]);
+            startPieces[i].setCol(startCols[i]);
+        }
+        resetPieces(fieldManagerService.getBlackPieces(), startBlackPieces);
+        resetPieces(fieldManagerService.getRedPieces(), startRedPieces);
+    }
+
+    private static void resetPieces(List<Piece> pieces, List<Piece> startPieces) {
+        pieces.clear();
+        for (int i = 0; i < startPieces.size(); i++) {
+            pieces.add(startPieces.get(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        searchResourcesService.getSearchHelpers().shutdownNow();
+    }
+}
@@ -0,0 +1,41 @@
+package checkers.benchmarks;
+
+import checkers.core.board.BoardGeometry;
+import checkers.core.board.Position;
+import checkers.core.logic.Perft;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures generating, playing and taking back moves on the 8x8 checkers board and the 10x10 draughts board.
+ * Both boards count a similar number of positions, so the time per position can be compared directly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PerftBenchmark {
+
+    @Param({"8", "10"})
+    public int boardSize;
+
+    private Position position;
+    private Perft perft;
+    private int depth;
+
+    // 36768 positions after 6 moves on the 8x8 board and 27117 positions after 5 moves on the 10x10 board.
+    @Setup
+    public void setUp() {
+        position = Position.createStartingPosition(BoardGeometry.of(boardSize));
+        perft = new Perft();
+        depth = boardSize == BoardGeometry.STANDARD.getBoardSize() ? 6 : 5;
+    }
+
+    @Benchmark
+    public long count() {
+        return perft.count(position, depth);
+    }
+}
@@ -0,0 +1,115 @@
+package checkers.benchmarks;
+
+import checkers.core.board.FieldManager;
+import checkers.core.board.Move;
+import checkers.core.board.Piece;
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
+import checkers.core.logic.GameSession;
+import checkers.core.logic.HumanPlayer;
+import checkers.core.logic.MoveGenerator;
+import checkers.core.logic.MoveList;
+import checkers.hosting.BaseData;
+import checkers.hosting.interfaces.FieldManagerService;
+import checkers.hosting.interfaces.GameSessionService;
+import checkers.hosting.interfaces.HumanPlayerService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the rules: validating the clicked moves of the human player and generating all legal moves.
+ *
+ * The clicks go through the {@link HumanPlayer}, which checks them against the legal moves and follows a capture
+ * jump by jump with the capture steps and ends of the {@link MoveGenerator}. A click that moves a piece is undone by
+ * setting up the board again, which only happens for the few legal clicks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RulesBenchmark {
+
+    private static final int[][] DIRECTIONS = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}, {-2, -2}, {-2, 2}, {2, -2}, {2, 2}};
+
+    @Param({BenchmarkPositions.OPENING, BenchmarkPositions.MIDDLEGAME, BenchmarkPositions.ENDGAME})
+    public String phase;
+
+    private Position startPosition;
+    private FieldManagerService fieldManagerService;
+    private GameSessionService gameSessionService;
+    private HumanPlayerService humanPlayerService;
+    // The squares of the human player's pieces, the pieces themselves are replaced when the board is set up again.
+    private List<int[]> humanSquares;
+    private Position position;
+    private Position humanPosition;
+    private MoveList moves;
+    private MoveList captureSteps;
+    private MoveList captureEnds;
+
+    @Setup
+    public void setUp() {
+        startPosition = BenchmarkPositions.get(phase);
+        fieldManagerService = new FieldManager(new BaseData());
+        gameSessionService = new GameSession();
+        humanPlayerService = new HumanPlayer(fieldManagerService, gameSessionService);
+        fieldManagerService.setPosition(startPosition);
+        humanSquares = new ArrayList<>();
+        for (Piece piece : fieldManagerService.getBlackPieces()) {
+            humanSquares.add(new int[]{piece.getRow(), piece.getCol()});
+        }
+        position = fieldManagerService.getPosition();
+        humanPosition = fieldManagerService.getPosition();
+        humanPosition.setSideToMove(PieceColor.BLACK);
+        moves = new MoveList();
+        captureSteps = new MoveList();
+        captureEnds = new MoveList();
+    }
+
+    // Clicks every step and jump of every piece of the human player, like a player clicking on all squares around them.
+    @Benchmark
+    public void handleMoveClick(Blackhole blackhole) {
+        for (int[] square : humanSquares) {
+            for (int[] direction : DIRECTIONS) {
+                int row = square[0] + direction[0];
+                int col = square[1] + direction[1];
+                if (row >= 0 && row < Position.BOARD_SIZE && col >= 0 && col < Position.BOARD_SIZE) {
+                    Optional<Piece> piece = fieldManagerService.getBoardPiece(square[0], square[1]);
+                    int result = humanPlayerService.handleMoveClick(row, col, piece);
+                    blackhole.consume(result);
+                    if (result != 0) {
+                        fieldManagerService.setPosition(startPosition);
+                        gameSessionService.setHasEaten(false);
+                    }
+                }
+            }
+        }
+    }
+
+    // Follows every capture of the human player jump by jump, as the human player does after every click.
+    @Benchmark
+    public void generateCaptureSteps(Blackhole blackhole) {
+        long pieces = humanPosition.getPieces(PieceColor.BLACK);
+        while (pieces != 0) {
+            int square = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            MoveGenerator.generateCaptureSteps(humanPosition, Move.encode(square, square, 0L, false), captureSteps);
+            for (int i = 0; i < captureSteps.size(); i++) {
+                MoveGenerator.generateCaptureEnds(humanPosition, captureSteps.get(i), captureEnds);
+                blackhole.consume(captureEnds.size());
+            }
+        }
+    }
+
+    @Benchmark
+    public MoveList generateMoves() {
+        MoveGenerator.generateMoves(position, moves);
+        return moves;
+    }
+}
@@ -0,0 +1,63 @@
+package checkers.application;
+
+import checkers.core.archive.GameArchive;
+import checkers.core.archive.GameArchiveWriter;
+import checkers.core.pdn.PdnGame;
+import checkers.core.pdn.PdnReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * Converts the games of a PDN file into a {@link GameArchive} on the command line and reads them back,
+ * without starting the JavaFX toolkit.
+ *
+ * Usage: {@code GameArchiveRunner <pdn file> <archive file>}. Games with illegal moves are left out.
+ */
+public class GameArchiveRunner {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: GameArchiveRunner <pdn file> <archive file>");
+            System.exit(1);
+        }
+        Path pdnFile = Paths.get(args[0]);
+        Path archiveFile = Paths.get(args[1]);
+
+        long startTime = System.nanoTime();
+        int invalidGameCount = 0;
+        try (PdnReader reader = PdnReader.open(pdnFile); GameArchiveWriter writer = new GameArchiveWriter(archiveFile)) {
+            while (true) {
+                try {
+                    Optional<PdnGame> game = reader.readGame();
+                    if (!game.isPresent()) {
+                        break;
+                    }
+                    writer.add(game.get());
+                } catch (IllegalArgumentException e) {
+                    invalidGameCount++;
+                }
+            }
+        }
+        long convertMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        startTime = System.nanoTime();
+        GameArchive archive = new GameArchive(archiveFile);
+        long moveCount = 0;
+        for (int game = 0; game < archive.getGameCount(); game++) {
+            moveCount += archive.getGame(game).getMoveCount();
+        }
+        long readMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        long pdnBytes = Files.size(pdnFile);
+        long archiveBytes = Files.size(archiveFile);
+        System.out.println(archive.getGameCount() + " games with " + moveCount + " moves archived, "
+                + invalidGameCount + " invalid games left out");
+        System.out.println("PDN: " + pdnBytes + " bytes read and converted in " + convertMillis + " ms");
+        System.out.println("Archive: " + archiveBytes + " bytes (" + String.format("%.1f", 100.0 * archiveBytes / Math.max(1, pdnBytes))
+                + " % of the PDN file) read in " + readMillis + " ms");
+    }
+}
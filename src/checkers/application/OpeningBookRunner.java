@@ -0,0 +1,80 @@
+package checkers.application;
+
+import checkers.core.engine.OpeningBookBuilder;
+import checkers.core.pdn.PdnGame;
+import checkers.core.pdn.PdnReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+/**
+ * Builds the opening book from self-play games on the command line, without starting the JavaFX toolkit.
+ *
+ * Usage: {@code OpeningBookRunner <games> <plies> [--depth <depth>] [--seed <seed>] [--output <file>]
+ * [--pdn <file>]}. The first plies of all games of a PDN file are added as well, games with illegal moves
+ * are left out. The book is written to the file opening.book by default, where the computer player looks for it.
+ */
+public class OpeningBookRunner {
+
+    private static final int DEFAULT_SEARCH_DEPTH = 8;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: OpeningBookRunner <games> <plies> [--depth <depth>] [--seed <seed>] [--output <file>]"
+                    + " [--pdn <file>]");
+            System.exit(1);
+        }
+        int gameCount = Integer.parseInt(args[0]);
+        int plies = Integer.parseInt(args[1]);
+        int searchDepth = DEFAULT_SEARCH_DEPTH;
+        long seed = System.nanoTime();
+        Path file = Paths.get("opening.book");
+        Path pdnFile = null;
+        for (int i = 2; i < args.length; i++) {
+            if ("--depth".equals(args[i]) && i + 1 < args.length) {
+                searchDepth = Integer.parseInt(args[++i]);
+            } else if ("--seed".equals(args[i]) && i + 1 < args.length) {
+                seed = Long.parseLong(args[++i]);
+            } else if ("--output".equals(args[i]) && i + 1 < args.length) {
+                file = Paths.get(args[++i]);
+            } else if ("--pdn".equals(args[i]) && i + 1 < args.length) {
+                pdnFile = Paths.get(args[++i]);
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        long startTime = System.nanoTime();
+        OpeningBookBuilder builder = new OpeningBookBuilder();
+        builder.addSelfPlayGames(gameCount, plies, searchDepth, seed);
+        if (pdnFile != null) {
+            addPdnGames(builder, pdnFile, plies);
+        }
+        builder.write(file);
+        System.out.println("Opening book with " + builder.getPositionCount() + " positions and " + Files.size(file)
+                + " bytes written to " + file + " in " + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+    }
+
+    private static void addPdnGames(OpeningBookBuilder builder, Path pdnFile, int plies) throws IOException {
+        int gameCount = 0;
+        int invalidGameCount = 0;
+        try (PdnReader reader = PdnReader.open(pdnFile)) {
+            while (true) {
+                try {
+                    Optional<PdnGame> game = reader.readGame();
+                    if (!game.isPresent()) {
+                        break;
+                    }
+                    builder.addGame(game.get().getStartPosition(), game.get().getMoves(), plies);
+                    gameCount++;
+                } catch (IllegalArgumentException e) {
+                    invalidGameCount++;
+                }
+            }
+        }
+        System.out.println(gameCount + " games added from " + pdnFile + ", " + invalidGameCount + " invalid games left out");
+    }
+}
@@ -0,0 +1,64 @@
+package checkers.application;
+
+import checkers.core.board.BoardGeometry;
+import checkers.core.board.Move;
+import checkers.core.board.Position;
+import checkers.core.logic.Perft;
+
+import java.util.Map;
+
+/**
+ * Runs the {@link Perft} test from the command line, without starting the JavaFX toolkit.
+ *
+ * Usage: {@code PerftRunner <depth> [--divide] [--size <8|10>] [--fen <position>]}. Without a FEN the test starts
+ * from the starting position of the game, the size chooses between checkers and international draughts.
+ */
+public class PerftRunner {
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: PerftRunner <depth> [--divide] [--size <8|10>] [--fen <position>]");
+            System.exit(1);
+        }
+        int depth = Integer.parseInt(args[0]);
+        boolean isDivide = false;
+        BoardGeometry geometry = BoardGeometry.STANDARD;
+        String fen = null;
+        for (int i = 1; i < args.length; i++) {
+            if ("--divide".equals(args[i])) {
+                isDivide = true;
+            } else if ("--size".equals(args[i]) && i + 1 < args.length) {
+                geometry = BoardGeometry.of(Integer.parseInt(args[++i]));
+            } else if ("--fen".equals(args[i]) && i + 1 < args.length) {
+                fen = args[++i];
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        Position position = fen == null ? Position.createStartingPosition(geometry) : Position.fromFen(geometry, fen);
+        Perft perft = new Perft();
+        System.out.println("Position: " + position.toFen());
+        if (isDivide) {
+            long startTime = System.nanoTime();
+            long total = 0;
+            for (Map.Entry<Long, Long> entry : perft.divide(position, depth).entrySet()) {
+                System.out.println(Move.toString(entry.getKey()) + ": " + entry.getValue());
+                total += entry.getValue();
+            }
+            printCount(depth, total, System.nanoTime() - startTime);
+            return;
+        }
+        for (int currentDepth = 1; currentDepth <= depth; currentDepth++) {
+            long startTime = System.nanoTime();
+            long count = perft.count(position, currentDepth);
+            printCount(currentDepth, count, System.nanoTime() - startTime);
+        }
+    }
+
+    private static void printCount(int depth, long count, long elapsedNanos) {
+        long nodesPerSecond = elapsedNanos == 0 ? 0 : count * 1_000_000_000L / elapsedNanos;
+        System.out.println("perft(" + depth + ") = " + count + " in " + elapsedNanos / 1_000_000 + " ms, "
+                + nodesPerSecond + " nodes/s");
+    }
+}
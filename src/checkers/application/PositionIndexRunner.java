@@ -0,0 +1,58 @@
+package checkers.application;
+
+import checkers.core.archive.GameArchive;
+import checkers.core.archive.PositionIndex;
+import checkers.core.archive.PositionIndexBuilder;
+import checkers.core.board.Position;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Builds the {@link PositionIndex} of a {@link GameArchive} on the command line and looks up a position in it,
+ * without starting the JavaFX toolkit.
+ *
+ * Usage: {@code PositionIndexRunner <archive file> <index file> [--fen <position>]}. The index is only built
+ * if the index file does not exist yet. The position is given in the notation of {@link Position#toFen} and is
+ * the starting position by default.
+ */
+public class PositionIndexRunner {
+
+    private static final int SHOWN_OCCURRENCES = 10;
+    private static final int TIMED_LOOKUPS = 1000;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2 && args.length != 4) {
+            System.err.println("Usage: PositionIndexRunner <archive file> <index file> [--fen <position>]");
+            System.exit(1);
+        }
+        Path archiveFile = Paths.get(args[0]);
+        Path indexFile = Paths.get(args[1]);
+        Position position = Position.createStartingPosition();
+        if (args.length == 4) {
+            if (!"--fen".equals(args[2])) {
+                throw new IllegalArgumentException("Unknown argument: " + args[2]);
+            }
+            position = Position.fromFen(args[3]);
+        }
+
+        if (!Files.exists(indexFile)) {
+            long startTime = System.nanoTime();
+            new PositionIndexBuilder(indexFile).build(new GameArchive(archiveFile));
+            System.out.println("Position index written to " + indexFile + " in " + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+        }
+        PositionIndex index = new PositionIndex(indexFile);
+        System.out.println(index.getKeyCount() + " positions with " + index.getOccurrenceCount() + " occurrences");
+
+        System.out.println(index.getStatistics(position).map(Object::toString).orElse("Position not found"));
+        // The first lookup also loads the touched pages of the file, the following ones show the usual time.
+        long startTime = System.nanoTime();
+        for (int i = 0; i < TIMED_LOOKUPS; i++) {
+            index.getStatistics(position);
+        }
+        System.out.println("Lookup: " + (System.nanoTime() - startTime) / TIMED_LOOKUPS + " ns");
+        System.out.println("First occurrences: " + index.findOccurrences(position, SHOWN_OCCURRENCES));
+    }
+}
@@ -0,0 +1,65 @@
+package checkers.application;
+
+import checkers.core.engine.ComputerStrategy;
+import checkers.hosting.PlayerData;
+import checkers.server.GameServer;
+
+import java.io.IOException;
+
+/**
+ * Starts a {@link GameServer} on the local machine, without starting the JavaFX toolkit.
+ *
+ * Usage: {@code ServerRunner [--port <port>] [--workers <workers>] [--queue <moves>] [--time <millis>]
+ * [--hash <megabytes>]}. The statistics of the server are printed every {@link #STATS_INTERVAL_MILLIS} milliseconds.
+ */
+public class ServerRunner {
+
+    private static final int DEFAULT_PORT = 7777;
+    private static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final long DEFAULT_MOVE_TIME_MILLIS = 200;
+    private static final int DEFAULT_HASH_MEGABYTES = 4;
+    private static final int MAX_SEARCH_DEPTH = 64;
+    private static final long STATS_INTERVAL_MILLIS = 10_000;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = DEFAULT_PORT;
+        int workerCount = Runtime.getRuntime().availableProcessors();
+        int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        long moveTimeMillis = DEFAULT_MOVE_TIME_MILLIS;
+        int hashMegabytes = DEFAULT_HASH_MEGABYTES;
+        for (int i = 0; i < args.length; i++) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value of argument: " + args[i]);
+            }
+            switch (args[i]) {
+                case "--port":
+                    port = Integer.parseInt(args[++i]);
+                    break;
+                case "--workers":
+                    workerCount = Integer.parseInt(args[++i]);
+                    break;
+                case "--queue":
+                    queueCapacity = Integer.parseInt(args[++i]);
+                    break;
+                case "--time":
+                    moveTimeMillis = Long.parseLong(args[++i]);
+                    break;
+                case "--hash":
+                    hashMegabytes = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        // Every session has its own computer player, so each one searches on a single thread with a small table.
+        PlayerData playerData = new PlayerData(ComputerStrategy.ALPHA_BETA, MAX_SEARCH_DEPTH, moveTimeMillis, hashMegabytes, 1);
+        GameServer server = new GameServer(port, playerData, workerCount, queueCapacity);
+        server.start();
+        System.out.println("Game server listening on port " + server.getPort() + " with " + workerCount + " workers");
+        while (true) {
+            Thread.sleep(STATS_INTERVAL_MILLIS);
+            System.out.println(server.getStats());
+        }
+    }
+}
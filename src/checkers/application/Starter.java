@@ -33,6 +33,8 @@ public class Starter extends Application {
         SceneManagerService sceneManager = container.getService(SceneManagerService.class)
                 .orElseThrow(() -> new NullPointerException(Container.SCENE_MANAGER_EXCEPTION));
         sceneManager.initializeScene(stage);
+        container.getCreationNanos().forEach((service, nanos) ->
+                LOGGER.fine(() -> service.getSimpleName() + " started in " + nanos / 1_000_000 + " ms"));
     }
 
     private void ShowInformation(Throwable e) {
@@ -0,0 +1,38 @@
+package checkers.application;
+
+import checkers.core.engine.MaterialSignature;
+import checkers.core.engine.TablebaseGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Generates the endgame tablebase from the command line, without starting the JavaFX toolkit.
+ *
+ * Usage: {@code TablebaseRunner <max pieces> [directory]}. The tables are written to the directory tablebases
+ * by default, where the computer player looks for them. Tables that already exist are not generated again.
+ */
+public class TablebaseRunner {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0 || args.length > 2) {
+            System.err.println("Usage: TablebaseRunner <max pieces> [directory]");
+            System.exit(1);
+        }
+        int maxPieces = Integer.parseInt(args[0]);
+        Path directory = Paths.get(args.length == 2 ? args[1] : "tablebases");
+
+        TablebaseGenerator generator = new TablebaseGenerator(directory);
+        long totalStartTime = System.nanoTime();
+        for (MaterialSignature signature : MaterialSignature.enumerate(maxPieces)) {
+            long startTime = System.nanoTime();
+            Path file = generator.generate(signature);
+            System.out.println(signature.getFileName() + ": " + signature.getPositionCount() + " positions, "
+                    + Files.size(file) + " bytes in " + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+        }
+        System.out.println("Tablebase up to " + maxPieces + " pieces generated in "
+                + (System.nanoTime() - totalStartTime) / 1_000_000 + " ms");
+    }
+}
@@ -0,0 +1,115 @@
+package checkers.application;
+
+import checkers.core.engine.ComputerStrategy;
+import checkers.core.engine.SearchEngine;
+import checkers.core.logic.Tournament;
+import checkers.core.logic.TournamentResult;
+import checkers.hosting.PlayerData;
+
+/**
+ * Plays a {@link Tournament} between two computer players from the command line, without starting the JavaFX toolkit.
+ *
+ * Usage: {@code TournamentRunner <games> [--first <player>] [--second <player>] [--threads <threads>]
+ * [--opening <plies>] [--max-plies <plies>] [--seed <seed>]}. A player is described by a list of settings,
+ * for example {@code strategy=ALPHA_BETA,depth=6,time=100,hash=8,threads=1}. Settings that are left out
+ * get the values of {@link #DEFAULT_PLAYER}.
+ */
+public class TournamentRunner {
+
+    private static final String DEFAULT_PLAYER = "strategy=ALPHA_BETA,depth=6,time=-1,hash=8,threads=1";
+    private static final int DEFAULT_OPENING_PLIES = 4;
+    private static final int DEFAULT_MAX_PLIES = 200;
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: TournamentRunner <games> [--first <player>] [--second <player>] [--threads <threads>]"
+                    + " [--opening <plies>] [--max-plies <plies>] [--seed <seed>]");
+            System.exit(1);
+        }
+        int gameCount = Integer.parseInt(args[0]);
+        PlayerData firstPlayerData = parsePlayer(DEFAULT_PLAYER);
+        PlayerData secondPlayerData = parsePlayer(DEFAULT_PLAYER);
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        int openingPlies = DEFAULT_OPENING_PLIES;
+        int maxPlies = DEFAULT_MAX_PLIES;
+        long seed = System.nanoTime();
+        for (int i = 1; i < args.length; i++) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value of argument: " + args[i]);
+            }
+            switch (args[i]) {
+                case "--first":
+                    firstPlayerData = parsePlayer(DEFAULT_PLAYER + "," + args[++i]);
+                    break;
+                case "--second":
+                    secondPlayerData = parsePlayer(DEFAULT_PLAYER + "," + args[++i]);
+                    break;
+                case "--threads":
+                    threadCount = Integer.parseInt(args[++i]);
+                    break;
+                case "--opening":
+                    openingPlies = Integer.parseInt(args[++i]);
+                    break;
+                case "--max-plies":
+                    maxPlies = Integer.parseInt(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        System.out.println("First player: " + firstPlayerData);
+        System.out.println("Second player: " + secondPlayerData);
+        long startTime = System.nanoTime();
+        Tournament tournament = new Tournament(firstPlayerData, secondPlayerData, openingPlies, maxPlies);
+        TournamentResult result = tournament.play(gameCount, threadCount, seed);
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        System.out.println("Games: " + result.getGameCount() + " in " + elapsedMillis + " ms on " + threadCount + " threads");
+        System.out.println("First player: " + result.getWins() + " wins, " + result.getDraws() + " draws, "
+                + result.getLosses() + " losses");
+        for (int player = TournamentResult.FIRST_PLAYER; player <= TournamentResult.SECOND_PLAYER; player++) {
+            System.out.println((player == TournamentResult.FIRST_PLAYER ? "First" : "Second") + " player: "
+                    + String.format("%.2f", result.getAverageMoveMillis(player)) + " ms per move, "
+                    + result.getNodesPerSecond(player) + " nodes/s");
+        }
+    }
+
+    // Later settings replace earlier ones, so the defaults come first.
+    private static PlayerData parsePlayer(String settings) {
+        ComputerStrategy strategy = ComputerStrategy.ALPHA_BETA;
+        int depth = 0;
+        long timeMillis = SearchEngine.NO_TIME_LIMIT;
+        int hashMegabytes = 0;
+        int threads = 0;
+        for (String setting : settings.split(",")) {
+            String[] keyAndValue = setting.split("=");
+            if (keyAndValue.length != 2) {
+                throw new IllegalArgumentException("Invalid player setting: " + setting);
+            }
+            String value = keyAndValue[1].trim();
+            switch (keyAndValue[0].trim()) {
+                case "strategy":
+                    strategy = ComputerStrategy.valueOf(value.toUpperCase());
+                    break;
+                case "depth":
+                    depth = Integer.parseInt(value);
+                    break;
+                case "time":
+                    timeMillis = Long.parseLong(value);
+                    break;
+                case "hash":
+                    hashMegabytes = Integer.parseInt(value);
+                    break;
+                case "threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown player setting: " + setting);
+            }
+        }
+        return new PlayerData(strategy, depth, timeMillis, hashMegabytes, threads);
+    }
+}
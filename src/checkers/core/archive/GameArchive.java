@@ -0,0 +1,188 @@
+package checkers.core.archive;
+
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
+import checkers.core.logic.MoveGenerator;
+import checkers.core.logic.MoveList;
+import checkers.core.pdn.PdnGame;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+
+/**
+ * Reads a compact binary archive of games written by the {@link GameArchiveWriter}.
+ *
+ * After a short header the archive contains one record per game: a flag byte with the result, the start position
+ * if it is not the starting position, the number of moves and the moves. A move is stored as its index among the
+ * legal moves of the {@link MoveGenerator} in as few bits as the number of legal moves needs, so the format depends
+ * on the order in which the generator returns the moves. An index at the end of the file holds the offset of every
+ * game and the number of its first position, so any game or position is found without reading the games before it.
+ *
+ * The file is a {@link MappedFile}, so archives may be larger than a single mapping
+ * and any number of threads can read the same archive.
+ */
+public class GameArchive {
+
+    static final int MAGIC = 0x434B4741;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+    // Index offset, game count, position count and the magic number again.
+    static final int TRAILER_BYTES = 2 * Long.BYTES + 2 * Integer.BYTES;
+    static final int INDEX_ENTRY_BYTES = 2 * Long.BYTES;
+    static final int MAX_MOVE_COUNT = 0xFFFF;
+    // Flags, the masks of a set up position, its side to move, the move count and one byte per move at most.
+    static final int MAX_RECORD_BYTES = 1 + 3 * Integer.BYTES + 1 + Short.BYTES + MAX_MOVE_COUNT;
+    static final int SET_UP_FLAG = 0x80;
+    private static final int RESULT_MASK = 0x03;
+    private static final String[] RESULTS = {PdnGame.UNKNOWN_RESULT, "1-0", "0-1", "1/2-1/2"};
+    private static final String RESULT_TAG = "Result";
+
+    private final MappedFile archive;
+    private final long indexOffset;
+    private final int gameCount;
+    private final long positionCount;
+
+    public GameArchive(Path file) throws IOException {
+        archive = new MappedFile(file);
+        long size = archive.getSize();
+        if (size < HEADER_BYTES + TRAILER_BYTES) {
+            throw new IOException("The game archive " + file + " is too short");
+        }
+        long trailerOffset = size - TRAILER_BYTES;
+        if (archive.getInt(0) != MAGIC || archive.getInt(Integer.BYTES) != VERSION
+                || archive.getInt(size - Integer.BYTES) != MAGIC) {
+            throw new IOException("The file " + file + " is no game archive of version " + VERSION);
+        }
+        indexOffset = archive.getLong(trailerOffset);
+        gameCount = archive.getInt(trailerOffset + Long.BYTES);
+        positionCount = archive.getLong(trailerOffset + Long.BYTES + Integer.BYTES);
+        if (indexOffset + (long) gameCount * INDEX_ENTRY_BYTES != trailerOffset) {
+            throw new IOException("The game archive " + file + " does not match its index");
+        }
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    // Every game has one position more than moves, the position after its last move.
+    public long getPositionCount() {
+        return positionCount;
+    }
+
+    // The archive only keeps the result of a game, its other tags are not stored.
+    public PdnGame getGame(int game) {
+        checkGame(game);
+        long offset = getGameOffset(game);
+        int flags = archive.getByte(offset) & 0xFF;
+        Position startPosition = readStartPosition(offset, flags);
+        long moveCountOffset = getMoveCountOffset(offset, flags);
+        int moveCount = archive.getShort(moveCountOffset) & 0xFFFF;
+        long[] moves = new long[moveCount];
+        readMoves(moveCountOffset + Short.BYTES, startPosition.copy(), moves, moveCount);
+        return new PdnGame(Collections.singletonMap(RESULT_TAG, RESULTS[flags & RESULT_MASK]), startPosition,
+                moves, RESULTS[flags & RESULT_MASK]);
+    }
+
+    // Returns the game a position of the archive belongs to by a binary search in the index.
+    public int getGameOfPosition(long positionNumber) {
+        if (positionNumber < 0 || positionNumber >= positionCount) {
+            throw new IndexOutOfBoundsException("Position " + positionNumber + " of " + positionCount);
+        }
+        int low = 0;
+        int high = gameCount - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (getFirstPositionNumber(middle) <= positionNumber) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    // Replays the game of the position up to the position, the moves after it are not read.
+    public Position getPosition(long positionNumber) {
+        int game = getGameOfPosition(positionNumber);
+        long offset = getGameOffset(game);
+        int flags = archive.getByte(offset) & 0xFF;
+        Position position = readStartPosition(offset, flags);
+        int plies = (int) (positionNumber - getFirstPositionNumber(game));
+        readMoves(getMoveCountOffset(offset, flags) + Short.BYTES, position, new long[plies], plies);
+        return position;
+    }
+
+    private Position readStartPosition(long offset, int flags) {
+        if ((flags & SET_UP_FLAG) == 0) {
+            return Position.createStartingPosition();
+        }
+        return new Position(Integer.toUnsignedLong(archive.getInt(offset + 1)),
+                Integer.toUnsignedLong(archive.getInt(offset + 1 + Integer.BYTES)),
+                Integer.toUnsignedLong(archive.getInt(offset + 1 + 2 * Integer.BYTES)),
+                archive.getByte(offset + 1 + 3 * Integer.BYTES) == 1 ? PieceColor.RED : PieceColor.BLACK);
+    }
+
+    private long getMoveCountOffset(long offset, int flags) {
+        return offset + 1 + ((flags & SET_UP_FLAG) != 0 ? 3 * Integer.BYTES + 1 : 0);
+    }
+
+    // Plays the moves on the given position while it reads them.
+    private void readMoves(long offset, Position position, long[] moves, int moveCount) {
+        MoveList legalMoves = new MoveList();
+        long bitOffset = 0;
+        for (int i = 0; i < moveCount; i++) {
+            MoveGenerator.generateMoves(position, legalMoves);
+            int indexBits = getIndexBits(legalMoves.size());
+            int moveIndex = 0;
+            if (indexBits > 0) {
+                // An index has at most eight bits, so it always lies within two bytes.
+                long byteOffset = offset + (bitOffset >>> 3);
+                int twoBytes = (archive.getByte(byteOffset) & 0xFF) | (archive.getByte(byteOffset + 1) & 0xFF) << Byte.SIZE;
+                moveIndex = (twoBytes >>> (bitOffset & 7)) & ((1 << indexBits) - 1);
+                bitOffset += indexBits;
+            }
+            if (moveIndex >= legalMoves.size()) {
+                throw new IllegalStateException("The game archive contains an illegal move");
+            }
+            moves[i] = legalMoves.get(moveIndex);
+            position.makeMove(moves[i]);
+        }
+    }
+
+    private void checkGame(int game) {
+        if (game < 0 || game >= gameCount) {
+            throw new IndexOutOfBoundsException("Game " + game + " of " + gameCount);
+        }
+    }
+
+    private long getGameOffset(int game) {
+        return archive.getLong(indexOffset + (long) game * INDEX_ENTRY_BYTES);
+    }
+
+    private long getFirstPositionNumber(int game) {
+        return archive.getLong(indexOffset + (long) game * INDEX_ENTRY_BYTES + Long.BYTES);
+    }
+
+    // The number of bits that are needed to store an index among the given number of legal moves.
+    static int getIndexBits(int legalMoveCount) {
+        return legalMoveCount <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(legalMoveCount - 1);
+    }
+
+    static int getResultCode(String result) {
+        switch (result) {
+            case "1-0":
+            case "2-0":
+                return 1;
+            case "0-1":
+            case "0-2":
+                return 2;
+            case "1/2-1/2":
+            case "1-1":
+                return 3;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package checkers.core.archive;
+
+import checkers.core.board.BoardGeometry;
+import checkers.core.board.Move;
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
+import checkers.core.logic.MoveGenerator;
+import checkers.core.logic.MoveList;
+import checkers.core.pdn.PdnGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Writes games into a {@link GameArchive} file, one after the other.
+ *
+ * The archive is written to a temporary file first, which replaces the archive when the writer is closed,
+ * so a reader never sees a half written archive.
+ */
+public class GameArchiveWriter implements Closeable {
+
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+
+    private final Path file;
+    private final Path temporaryFile;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final MoveList legalMoves;
+    private long writtenBytes;
+    private long[] gameOffsets;
+    private long[] firstPositionNumbers;
+    private int gameCount;
+    private long positionCount;
+
+    public GameArchiveWriter(Path file) throws IOException {
+        this.file = file;
+        this.temporaryFile = Paths.get(file + ".tmp");
+        this.channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        this.legalMoves = new MoveList();
+        this.gameOffsets = new long[INITIAL_INDEX_CAPACITY];
+        this.firstPositionNumbers = new long[INITIAL_INDEX_CAPACITY];
+        buffer.putInt(GameArchive.MAGIC).putInt(GameArchive.VERSION);
+    }
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    /**
+     * Adds a game and returns its number in the archive. Every move is stored as its index among the legal moves
+     * of its position in as few bits as needed, so a forced move takes no space at all.
+     */
+    public int add(PdnGame game) throws IOException {
+        if (game.getMoveCount() > GameArchive.MAX_MOVE_COUNT) {
+            throw new IllegalArgumentException("A game of the archive can have at most " + GameArchive.MAX_MOVE_COUNT + " moves");
+        }
+        // The set up positions are stored with one int per mask.
+        if (game.getStartPosition().getGeometry() != BoardGeometry.STANDARD) {
+            throw new IllegalArgumentException("Only games on the 8x8 board can be archived");
+        }
+        if (buffer.remaining() < GameArchive.MAX_RECORD_BYTES) {
+            flush();
+        }
+        if (gameCount == gameOffsets.length) {
+            gameOffsets = Arrays.copyOf(gameOffsets, gameCount * 2);
+            firstPositionNumbers = Arrays.copyOf(firstPositionNumbers, gameCount * 2);
+        }
+        gameOffsets[gameCount] = writtenBytes + buffer.position();
+        firstPositionNumbers[gameCount] = positionCount;
+
+        Position position = game.getStartPosition();
+        boolean isStartingPosition = position.equals(Position.createStartingPosition());
+        buffer.put((byte) ((isStartingPosition ? 0 : GameArchive.SET_UP_FLAG) | GameArchive.getResultCode(game.getResult())));
+        if (!isStartingPosition) {
+            buffer.putInt((int) position.getRedPieces()).putInt((int) position.getBlackPieces()).putInt((int) position.getKingPieces())
+                    .put((byte) (position.getSideToMove() == PieceColor.RED ? 1 : 0));
+        }
+        buffer.putShort((short) game.getMoveCount());
+        long bits = 0;
+        int bitCount = 0;
+        for (int i = 0; i < game.getMoveCount(); i++) {
+            long move = game.getMove(i);
+            MoveGenerator.generateMoves(position, legalMoves);
+            int moveIndex = indexOf(move);
+            bits |= (long) moveIndex << bitCount;
+            bitCount += GameArchive.getIndexBits(legalMoves.size());
+            while (bitCount >= Byte.SIZE) {
+                buffer.put((byte) bits);
+                bits >>>= Byte.SIZE;
+                bitCount -= Byte.SIZE;
+            }
+            position.makeMove(move);
+        }
+        if (bitCount > 0) {
+            buffer.put((byte) bits);
+        }
+        positionCount += game.getMoveCount() + 1;
+        return gameCount++;
+    }
+
+    private int indexOf(long move) {
+        for (int i = 0; i < legalMoves.size(); i++) {
+            if (legalMoves.get(i) == move) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Illegal move in archived game: " + Move.toString(move));
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            writtenBytes += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // Appends the index and the trailer and moves the finished archive in place.
+    @Override
+    public void close() throws IOException {
+        try {
+            long indexOffset = writtenBytes + buffer.position();
+            for (int game = 0; game < gameCount; game++) {
+                if (buffer.remaining() < GameArchive.INDEX_ENTRY_BYTES) {
+                    flush();
+                }
+                buffer.putLong(gameOffsets[game]).putLong(firstPositionNumbers[game]);
+            }
+            if (buffer.remaining() < GameArchive.TRAILER_BYTES) {
+                flush();
+            }
+            buffer.putLong(indexOffset).putInt(gameCount).putLong(positionCount).putInt(GameArchive.MAGIC);
+            flush();
+        } finally {
+            channel.close();
+        }
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
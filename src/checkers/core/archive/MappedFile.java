@@ -0,0 +1,53 @@
+package checkers.core.archive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Maps a file of any size into memory in overlapping windows, because a single mapping is limited to 2 GB.
+ * A value that starts in a window always ends within the mapping of that window, as long as it is not longer
+ * than the overlap. All reads use absolute offsets, so any number of threads can read at the same time.
+ */
+final class MappedFile {
+
+    private static final long WINDOW_BYTES = 1L << 30;
+    private static final long OVERLAP_BYTES = 1L << 17;
+
+    private final ByteBuffer[] windows;
+    private final long size;
+
+    MappedFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            size = channel.size();
+            windows = new ByteBuffer[(int) (Math.max(size - 1, 0) / WINDOW_BYTES + 1)];
+            for (int window = 0; window < windows.length; window++) {
+                long start = window * WINDOW_BYTES;
+                windows[window] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                        Math.min(size - start, WINDOW_BYTES + OVERLAP_BYTES));
+            }
+        }
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    byte getByte(long offset) {
+        return windows[(int) (offset / WINDOW_BYTES)].get((int) (offset % WINDOW_BYTES));
+    }
+
+    short getShort(long offset) {
+        return windows[(int) (offset / WINDOW_BYTES)].getShort((int) (offset % WINDOW_BYTES));
+    }
+
+    int getInt(long offset) {
+        return windows[(int) (offset / WINDOW_BYTES)].getInt((int) (offset % WINDOW_BYTES));
+    }
+
+    long getLong(long offset) {
+        return windows[(int) (offset / WINDOW_BYTES)].getLong((int) (offset % WINDOW_BYTES));
+    }
+}
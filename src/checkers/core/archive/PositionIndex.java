@@ -0,0 +1,108 @@
+package checkers.core.archive;
+
+import checkers.core.board.Position;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Finds the games of a {@link GameArchive} in which a position occurred, and how these games ended.
+ *
+ * The index file is written by the {@link PositionIndexBuilder}. After a short header it contains one key per
+ * distinct position, sorted by the Zobrist hash of the position, with the counts of its results and the range of its
+ * occurrences. The occurrences follow the keys, each as the number of the game and the ply. A lookup is a binary
+ * search over the keys of the memory-mapped file. Positions are only told apart by their hashes.
+ */
+public class PositionIndex {
+
+    static final int MAGIC = 0x434B5049;
+    static final int VERSION = 1;
+    // Magic, version, the number of keys and the number of occurrences.
+    static final int HEADER_BYTES = 2 * Integer.BYTES + 2 * Long.BYTES;
+    // Hash, first occurrence, occurrence count and the counts of black wins, red wins and draws.
+    static final int KEY_BYTES = 2 * Long.BYTES + 4 * Integer.BYTES;
+    static final int OCCURRENCE_BYTES = 2 * Integer.BYTES;
+
+    private final MappedFile index;
+    private final long keyCount;
+    private final long occurrenceCount;
+    private final long occurrencesOffset;
+
+    public PositionIndex(Path file) throws IOException {
+        index = new MappedFile(file);
+        if (index.getSize() < HEADER_BYTES) {
+            throw new IOException("The position index " + file + " is too short");
+        }
+        if (index.getInt(0) != MAGIC || index.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("The file " + file + " is no position index of version " + VERSION);
+        }
+        keyCount = index.getLong(2 * Integer.BYTES);
+        occurrenceCount = index.getLong(2 * Integer.BYTES + Long.BYTES);
+        occurrencesOffset = HEADER_BYTES + keyCount * KEY_BYTES;
+        if (index.getSize() != occurrencesOffset + occurrenceCount * OCCURRENCE_BYTES) {
+            throw new IOException("The position index " + file + " does not match its header");
+        }
+    }
+
+    // The number of distinct positions.
+    public long getKeyCount() {
+        return keyCount;
+    }
+
+    public long getOccurrenceCount() {
+        return occurrenceCount;
+    }
+
+    public Optional<PositionStatistics> getStatistics(Position position) {
+        long key = findKey(position.getHash());
+        if (key < 0) {
+            return Optional.empty();
+        }
+        long offset = getKeyOffset(key);
+        return Optional.of(new PositionStatistics(index.getInt(offset + 2 * Long.BYTES),
+                index.getInt(offset + 2 * Long.BYTES + Integer.BYTES), index.getInt(offset + 2 * Long.BYTES + 2 * Integer.BYTES),
+                index.getInt(offset + 2 * Long.BYTES + 3 * Integer.BYTES)));
+    }
+
+    // Returns at most the given number of occurrences, in the order of the games.
+    public List<PositionOccurrence> findOccurrences(Position position, int maxCount) {
+        List<PositionOccurrence> occurrences = new ArrayList<>();
+        long key = findKey(position.getHash());
+        if (key < 0) {
+            return occurrences;
+        }
+        long keyOffset = getKeyOffset(key);
+        long firstOccurrence = index.getLong(keyOffset + Long.BYTES);
+        int count = Math.min(index.getInt(keyOffset + 2 * Long.BYTES), maxCount);
+        for (int i = 0; i < count; i++) {
+            long offset = occurrencesOffset + (firstOccurrence + i) * OCCURRENCE_BYTES;
+            occurrences.add(new PositionOccurrence(index.getInt(offset), index.getInt(offset + Integer.BYTES)));
+        }
+        return occurrences;
+    }
+
+    // Returns -1 if the hash is not in the index.
+    private long findKey(long hash) {
+        long low = 0;
+        long high = keyCount - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            long middleHash = index.getLong(getKeyOffset(middle));
+            if (middleHash < hash) {
+                low = middle + 1;
+            } else if (middleHash > hash) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private long getKeyOffset(long key) {
+        return HEADER_BYTES + key * KEY_BYTES;
+    }
+}
@@ -0,0 +1,223 @@
+package checkers.core.archive;
+
+import checkers.core.board.Position;
+import checkers.core.pdn.PdnGame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Builds the {@link PositionIndex} of all positions of a {@link GameArchive}, also for archives whose positions
+ * do not fit into memory.
+ *
+ * The occurrences are first spread over temporary partition files by the highest bits of their hashes, so every
+ * partition covers a range of hashes. The partitions are then sorted one after the other in memory and appended
+ * to the index, which therefore only needs the memory of the largest partition.
+ */
+public class PositionIndexBuilder {
+
+    private static final int PARTITION_BITS = 8;
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    private static final int PARTITION_BUFFER_BYTES = 1 << 15;
+    private static final int OUTPUT_BUFFER_BYTES = 1 << 20;
+    // Hash, game and the ply together with the result of the game.
+    private static final int RECORD_BYTES = Long.BYTES + 2 * Integer.BYTES;
+    private static final int RESULT_BITS = 2;
+    private static final int RESULT_MASK = (1 << RESULT_BITS) - 1;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    private final Path file;
+
+    public PositionIndexBuilder(Path file) {
+        this.file = file;
+    }
+
+    public void build(GameArchive archive) throws IOException {
+        Path[] partitionFiles = new Path[PARTITION_COUNT];
+        for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+            partitionFiles[partition] = Paths.get(file + ".part" + partition + ".tmp");
+        }
+        Path keysFile = Paths.get(file + ".keys.tmp");
+        Path occurrencesFile = Paths.get(file + ".occurrences.tmp");
+        Path temporaryFile = Paths.get(file + ".tmp");
+        try {
+            writePartitions(archive, partitionFiles);
+            long keyCount;
+            try (FileChannel keys = openForWriting(keysFile); FileChannel occurrences = openForWriting(occurrencesFile)) {
+                keyCount = writeKeysAndOccurrences(partitionFiles, keys, occurrences);
+            }
+            try (FileChannel index = openForWriting(temporaryFile);
+                 FileChannel keys = FileChannel.open(keysFile, StandardOpenOption.READ);
+                 FileChannel occurrences = FileChannel.open(occurrencesFile, StandardOpenOption.READ)) {
+                ByteBuffer header = ByteBuffer.allocate(PositionIndex.HEADER_BYTES);
+                header.putInt(PositionIndex.MAGIC).putInt(PositionIndex.VERSION).putLong(keyCount)
+                        .putLong(occurrences.size() / PositionIndex.OCCURRENCE_BYTES);
+                header.flip();
+                write(index, header);
+                transfer(keys, index);
+                transfer(occurrences, index);
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            for (Path partitionFile : partitionFiles) {
+                Files.deleteIfExists(partitionFile);
+            }
+            Files.deleteIfExists(keysFile);
+            Files.deleteIfExists(occurrencesFile);
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private void writePartitions(GameArchive archive, Path[] partitionFiles) throws IOException {
+        FileChannel[] channels = new FileChannel[PARTITION_COUNT];
+        ByteBuffer[] buffers = new ByteBuffer[PARTITION_COUNT];
+        try {
+            for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+                channels[partition] = openForWriting(partitionFiles[partition]);
+                buffers[partition] = ByteBuffer.allocate(PARTITION_BUFFER_BYTES);
+            }
+            for (int game = 0; game < archive.getGameCount(); game++) {
+                PdnGame archivedGame = archive.getGame(game);
+                int resultCode = GameArchive.getResultCode(archivedGame.getResult());
+                Position position = archivedGame.getStartPosition();
+                for (int ply = 0; ply <= archivedGame.getMoveCount(); ply++) {
+                    long hash = position.getHash();
+                    int partition = getPartition(hash);
+                    ByteBuffer buffer = buffers[partition];
+                    if (buffer.remaining() < RECORD_BYTES) {
+                        flush(channels[partition], buffer);
+                    }
+                    buffer.putLong(hash).putInt(game).putInt(ply << RESULT_BITS | resultCode);
+                    if (ply < archivedGame.getMoveCount()) {
+                        position.makeMove(archivedGame.getMove(ply));
+                    }
+                }
+            }
+            for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+                flush(channels[partition], buffers[partition]);
+            }
+        } finally {
+            for (FileChannel channel : channels) {
+                if (channel != null) {
+                    channel.close();
+                }
+            }
+        }
+    }
+
+    // The keys are sorted by their signed hashes, so the partitions are numbered in the same order.
+    private int getPartition(long hash) {
+        return (int) ((hash ^ Long.MIN_VALUE) >>> (Long.SIZE - PARTITION_BITS));
+    }
+
+    // Sorts the partitions one after the other and returns the number of keys.
+    private long writeKeysAndOccurrences(Path[] partitionFiles, FileChannel keys, FileChannel occurrences) throws IOException {
+        ByteBuffer keyBuffer = ByteBuffer.allocate(OUTPUT_BUFFER_BYTES);
+        ByteBuffer occurrenceBuffer = ByteBuffer.allocate(OUTPUT_BUFFER_BYTES);
+        long keyCount = 0;
+        long occurrenceCount = 0;
+        for (Path partitionFile : partitionFiles) {
+            ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(partitionFile));
+            Files.delete(partitionFile);
+            int recordCount = records.capacity() / RECORD_BYTES;
+            long[] hashes = new long[recordCount];
+            long[] values = new long[recordCount];
+            for (int i = 0; i < recordCount; i++) {
+                hashes[i] = records.getLong();
+                values[i] = (long) records.getInt() << Integer.SIZE | (records.getInt() & 0xFFFFFFFFL);
+            }
+            sort(hashes, values, recordCount);
+
+            int first = 0;
+            while (first < recordCount) {
+                int[] resultCounts = new int[RESULT_MASK + 1];
+                int last = first;
+                while (last < recordCount && hashes[last] == hashes[first]) {
+                    int plyAndResult = (int) values[last];
+                    resultCounts[plyAndResult & RESULT_MASK]++;
+                    if (occurrenceBuffer.remaining() < PositionIndex.OCCURRENCE_BYTES) {
+                        flush(occurrences, occurrenceBuffer);
+                    }
+                    occurrenceBuffer.putInt((int) (values[last] >>> Integer.SIZE)).putInt(plyAndResult >>> RESULT_BITS);
+                    last++;
+                }
+                if (keyBuffer.remaining() < PositionIndex.KEY_BYTES) {
+                    flush(keys, keyBuffer);
+                }
+                keyBuffer.putLong(hashes[first]).putLong(occurrenceCount).putInt(last - first)
+                        .putInt(resultCounts[1]).putInt(resultCounts[2]).putInt(resultCounts[3]);
+                keyCount++;
+                occurrenceCount += last - first;
+                first = last;
+            }
+        }
+        flush(keys, keyBuffer);
+        flush(occurrences, occurrenceBuffer);
+        return keyCount;
+    }
+
+    /**
+     * Sorts the hashes in signed order together with their values by a radix sort. The sort is stable,
+     * so the occurrences of a position stay in the order of the games.
+     */
+    private void sort(long[] hashes, long[] values, int count) {
+        long[] sortedHashes = new long[count];
+        long[] sortedValues = new long[count];
+        int[] bucketStarts = new int[RADIX + 1];
+        for (int shift = 0; shift < Long.SIZE && count > 0; shift += RADIX_BITS) {
+            Arrays.fill(bucketStarts, 0);
+            for (int i = 0; i < count; i++) {
+                bucketStarts[getDigit(hashes[i], shift) + 1]++;
+            }
+            // The highest digits are the same within a partition, there is nothing to sort for them.
+            if (bucketStarts[getDigit(hashes[0], shift) + 1] == count) {
+                continue;
+            }
+            for (int digit = 0; digit < RADIX; digit++) {
+                bucketStarts[digit + 1] += bucketStarts[digit];
+            }
+            for (int i = 0; i < count; i++) {
+                int target = bucketStarts[getDigit(hashes[i], shift)]++;
+                sortedHashes[target] = hashes[i];
+                sortedValues[target] = values[i];
+            }
+            System.arraycopy(sortedHashes, 0, hashes, 0, count);
+            System.arraycopy(sortedValues, 0, values, 0, count);
+        }
+    }
+
+    private int getDigit(long hash, int shift) {
+        return (int) (((hash ^ Long.MIN_VALUE) >>> shift) & (RADIX - 1));
+    }
+
+    private FileChannel openForWriting(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        write(channel, buffer);
+        buffer.clear();
+    }
+
+    private void write(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void transfer(FileChannel source, FileChannel target) throws IOException {
+        long position = 0;
+        while (position < source.size()) {
+            position += source.transferTo(position, source.size() - position, target);
+        }
+    }
+}
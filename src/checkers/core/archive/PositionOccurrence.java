@@ -0,0 +1,45 @@
+package checkers.core.archive;
+
+/**
+ * Names a game of a {@link GameArchive} and the number of moves that were played in it before a position occurred.
+ */
+public class PositionOccurrence {
+
+    private final int game;
+    private final int ply;
+
+    public PositionOccurrence(int game, int ply) {
+        this.game = game;
+        this.ply = ply;
+    }
+
+    public int getGame() {
+        return game;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        PositionOccurrence otherOccurrence = (PositionOccurrence) obj;
+        return game == otherOccurrence.game && ply == otherOccurrence.ply;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * game + ply;
+    }
+
+    @Override
+    public String toString() {
+        return "PositionOccurrence{" + "game: " + game + ", ply: " + ply + '}';
+    }
+}
@@ -0,0 +1,46 @@
+package checkers.core.archive;
+
+/**
+ * Counts how often a position occurred in the games of a {@link PositionIndex} and how these games ended.
+ */
+public class PositionStatistics {
+
+    private final int occurrenceCount;
+    private final int blackWins;
+    private final int redWins;
+    private final int draws;
+
+    public PositionStatistics(int occurrenceCount, int blackWins, int redWins, int draws) {
+        this.occurrenceCount = occurrenceCount;
+        this.blackWins = blackWins;
+        this.redWins = redWins;
+        this.draws = draws;
+    }
+
+    public int getOccurrenceCount() {
+        return occurrenceCount;
+    }
+
+    // Black moves first, so these are the games with the result 1-0.
+    public int getBlackWins() {
+        return blackWins;
+    }
+
+    public int getRedWins() {
+        return redWins;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public int getUnknownResults() {
+        return occurrenceCount - blackWins - redWins - draws;
+    }
+
+    @Override
+    public String toString() {
+        return "PositionStatistics{" + "occurrences: " + occurrenceCount + ", blackWins: " + blackWins
+                + ", redWins: " + redWins + ", draws: " + draws + '}';
+    }
+}
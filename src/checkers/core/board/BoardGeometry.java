@@ -0,0 +1,164 @@
+package checkers.core.board;
+
+import checkers.core.board.Piece.PieceColor;
+
+/**
+ * Describes the squares of a board with a given number of rows and columns and the rules that are played on it.
+ *
+ * The 8x8 board is played with the checkers rules: men move and capture forward, kings move and capture one square
+ * in all four directions and a man that is crowned during a capture continues it as king. The 10x10 board
+ * is played with the international draughts rules: men also capture backwards, kings move and capture over any
+ * distance, the capture of the most pieces is mandatory and a man is only crowned when its move ends on the last row.
+ *
+ * The playable squares are numbered row by row from the top of the board, so that the square of a row and
+ * a column is {@code row * boardSize / 2 + col / 2}. Both boards fit into the bits of a {@code long}.
+ */
+public final class BoardGeometry {
+
+    public static final int UP_LEFT = 0;
+    public static final int UP_RIGHT = 1;
+    public static final int DOWN_LEFT = 2;
+    public static final int DOWN_RIGHT = 3;
+    public static final int DIRECTION_COUNT = 4;
+    public static final BoardGeometry STANDARD = new BoardGeometry(8, false);
+    public static final BoardGeometry INTERNATIONAL = new BoardGeometry(10, true);
+    public static final int MAX_SQUARE_COUNT = INTERNATIONAL.getSquareCount();
+
+    private final int boardSize;
+    private final int squaresPerRow;
+    private final int squareCount;
+    private final boolean hasInternationalRules;
+    private final long allSquares;
+    private final long startingRedPieces;
+    private final long startingBlackPieces;
+    private final long redPromotionRow;
+    private final long blackPromotionRow;
+    // Neighbouring square and landing square of a jump for every direction and square, -1 if it is off the board.
+    private final int[][] neighbours;
+    private final int[][] jumps;
+    // The neighbours of a direction lie at one of two distances, depending on the row. The squares of every distance
+    // are shifted at once, so the neighbours of a whole bitboard are found without a loop over its squares.
+    private final int[][] neighbourShifts;
+    private final long[][] neighbourSources;
+
+    private BoardGeometry(int boardSize, boolean hasInternationalRules) {
+        this.boardSize = boardSize;
+        this.squaresPerRow = boardSize / 2;
+        this.squareCount = boardSize * squaresPerRow;
+        this.hasInternationalRules = hasInternationalRules;
+        this.allSquares = -1L >>> (Long.SIZE - squareCount);
+        // Both players start on all rows of their half of the board except the middle row of their side.
+        int startingRows = squaresPerRow - 1;
+        this.startingRedPieces = -1L >>> (Long.SIZE - startingRows * squaresPerRow);
+        this.startingBlackPieces = startingRedPieces << (squareCount - startingRows * squaresPerRow);
+        this.blackPromotionRow = -1L >>> (Long.SIZE - squaresPerRow);
+        this.redPromotionRow = blackPromotionRow << (squareCount - squaresPerRow);
+        this.neighbours = new int[DIRECTION_COUNT][squareCount];
+        this.jumps = new int[DIRECTION_COUNT][squareCount];
+        this.neighbourShifts = new int[DIRECTION_COUNT][2];
+        this.neighbourSources = new long[DIRECTION_COUNT][2];
+        int[][] directions = {{-1, -1}, {-1, 1}, {1, -1}, {1, 1}};
+        for (int direction = 0; direction < DIRECTION_COUNT; direction++) {
+            for (int square = 0; square < squareCount; square++) {
+                int row = toRow(square);
+                int col = toCol(square);
+                neighbours[direction][square] = toSquare(row + directions[direction][0], col + directions[direction][1]);
+                jumps[direction][square] = toSquare(row + 2 * directions[direction][0], col + 2 * directions[direction][1]);
+                addNeighbourSource(direction, square);
+            }
+        }
+    }
+
+    private void addNeighbourSource(int direction, int square) {
+        int neighbour = neighbours[direction][square];
+        if (neighbour < 0) {
+            return;
+        }
+        int shift = neighbour - square;
+        int slot = neighbourSources[direction][0] == 0 || neighbourShifts[direction][0] == shift ? 0 : 1;
+        neighbourShifts[direction][slot] = shift;
+        neighbourSources[direction][slot] |= 1L << square;
+    }
+
+    // Only the 8x8 and the 10x10 board are supported, because larger boards do not fit into a long.
+    public static BoardGeometry of(int boardSize) {
+        if (boardSize == STANDARD.boardSize) {
+            return STANDARD;
+        }
+        if (boardSize == INTERNATIONAL.boardSize) {
+            return INTERNATIONAL;
+        }
+        throw new IllegalArgumentException("The board size must be " + STANDARD.boardSize + " or "
+                + INTERNATIONAL.boardSize + ", but was " + boardSize);
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public int getSquareCount() {
+        return squareCount;
+    }
+
+    public boolean hasInternationalRules() {
+        return hasInternationalRules;
+    }
+
+    public long getAllSquares() {
+        return allSquares;
+    }
+
+    public long getStartingPieces(PieceColor color) {
+        return color == PieceColor.RED ? startingRedPieces : startingBlackPieces;
+    }
+
+    // Red men move down the board and are crowned on the bottom row, black men on the top row.
+    public long getPromotionRow(PieceColor color) {
+        return color == PieceColor.RED ? redPromotionRow : blackPromotionRow;
+    }
+
+    public int getNeighbour(int direction, int square) {
+        return neighbours[direction][square];
+    }
+
+    public int getJump(int direction, int square) {
+        return jumps[direction][square];
+    }
+
+    // The neighbouring squares of all given squares in the direction, squares on the edge have no neighbour there.
+    public long getNeighbours(int direction, long squares) {
+        return shift(squares & neighbourSources[direction][0], neighbourShifts[direction][0])
+                | shift(squares & neighbourSources[direction][1], neighbourShifts[direction][1]);
+    }
+
+    private static long shift(long squares, int distance) {
+        return distance >= 0 ? squares << distance : squares >>> -distance;
+    }
+
+    // Returns -1 for the white squares, because no piece can ever stand on them.
+    public int toSquare(int row, int col) {
+        if (row < 0 || row >= boardSize || col < 0 || col >= boardSize || (row + col) % 2 == 0) {
+            return -1;
+        }
+        return row * squaresPerRow + col / 2;
+    }
+
+    public int toRow(int square) {
+        return square / squaresPerRow;
+    }
+
+    public int toCol(int square) {
+        int row = toRow(square);
+        return (square % squaresPerRow) * 2 + (row % 2 == 0 ? 1 : 0);
+    }
+
+    // Turns the squares of the mask around the centre of the board, square n becomes square squareCount - 1 - n.
+    public long rotate(long squares) {
+        return Long.reverse(squares) >>> (Long.SIZE - squareCount);
+    }
+
+    @Override
+    public String toString() {
+        return boardSize + "x" + boardSize;
+    }
+}
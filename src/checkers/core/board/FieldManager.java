@@ -5,15 +5,13 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import javafx.scene.Group;
-import checkers.core.gui.Piece;
-import checkers.core.gui.Piece.PieceColor;
+import checkers.core.board.Piece.PieceColor;
 import checkers.hosting.interfaces.*;
 
 /**
  * Allows access to the checkers game board.
  */
-public class FieldManager extends Group implements FieldManagerService {
+public class FieldManager implements FieldManagerService {
 
     private BaseDataService baseDataService;
     private Piece[][] board;
@@ -35,7 +33,7 @@ public class FieldManager extends Group implements FieldManagerService {
         for (int row = 0; row < loopEndCondition; row++) {
             for (int col = 0; col < squareNumber; col++) {
                 if ((row + col) % 2 == 1) {
-                    Piece piece = new Piece(row, col, PieceColor.RED, this.baseDataService);
+                    Piece piece = new Piece(row, col, PieceColor.RED);
                     redPieces.add(piece);
                     board[row][col] = piece;
                 }
@@ -44,7 +42,7 @@ public class FieldManager extends Group implements FieldManagerService {
         for (int row = squareNumber - loopEndCondition; row < squareNumber; row++) {
             for (int col = 0; col < squareNumber; col++) {
                 if ((row + col) % 2 == 1) {
-                    Piece piece = new Piece(row, col, PieceColor.BLACK, this.baseDataService);
+                    Piece piece = new Piece(row, col, PieceColor.BLACK);
                     blackPieces.add(piece);
                     board[row][col] = piece;
                 }
@@ -112,6 +110,57 @@ public class FieldManager extends Group implements FieldManagerService {
         this.board = board;
     }
 
+    /**
+     * Creates a bitboard snapshot of the pieces that currently stand on the board.
+     * Changes to the returned {@link Position} do not affect the board.
+     */
+    @Override
+    public Position getPosition() {
+        BoardGeometry geometry = BoardGeometry.of(baseDataService.getSquareNumber());
+        Position position = new Position(geometry);
+        for (int row = 0; row < geometry.getBoardSize(); row++) {
+            for (int col = 0; col < geometry.getBoardSize(); col++) {
+                Piece piece = board[row][col];
+                int square = geometry.toSquare(row, col);
+                if (piece != null && square >= 0) {
+                    position.setPiece(square, piece.getColor(), piece.isKing());
+                }
+            }
+        }
+        return position;
+    }
+
+    // Replaces all pieces of the board with new pieces that stand on the squares of the given position.
+    @Override
+    public void setPosition(Position position) {
+        BoardGeometry geometry = position.getGeometry();
+        if (geometry.getBoardSize() != baseDataService.getSquareNumber()) {
+            throw new IllegalArgumentException("The position is for a " + geometry + " board, but the board is "
+                    + baseDataService.getSquareNumber() + "x" + baseDataService.getSquareNumber());
+        }
+        board = new Piece[geometry.getBoardSize()][geometry.getBoardSize()];
+        blackPieces = new ArrayList<>();
+        redPieces = new ArrayList<>();
+        for (int square = 0; square < geometry.getSquareCount(); square++) {
+            Optional<PieceColor> color = position.getColor(square);
+            if (color.isPresent()) {
+                int row = geometry.toRow(square);
+                int col = geometry.toCol(square);
+                Piece piece = new Piece(row, col, color.get());
+                if (position.isKing(square)) {
+                    piece.makeKing();
+                }
+                if (color.get() == PieceColor.RED) {
+                    redPieces.add(piece);
+                } else {
+                    blackPieces.add(piece);
+                }
+                board[row][col] = piece;
+            }
+        }
+        updateRedKingPieces();
+    }
+
     @Override
     public String getName() {
         return FieldManagerService.class.getSimpleName();
@@ -0,0 +1,57 @@
+package checkers.core.board;
+
+/**
+ * Encodes a complete move of one piece, including all pieces captured on the way, into a single {@code long}.
+ *
+ * Bits 0 to 5 hold the start square, bits 6 to 11 the destination square, bit 12 is set when the piece
+ * is crowned during the move and the bits from 13 upwards hold the mask of the captured pieces.
+ */
+public final class Move {
+
+    public static final long NONE = 0L;
+    private static final int SQUARE_BITS = 6;
+    private static final long SQUARE_MASK = (1L << SQUARE_BITS) - 1;
+    private static final int TO_SHIFT = SQUARE_BITS;
+    private static final int PROMOTION_SHIFT = 2 * SQUARE_BITS;
+    private static final int CAPTURE_SHIFT = PROMOTION_SHIFT + 1;
+
+    // No one should be able to create an instance of this class, because a move is only a primitive value.
+    private Move() {
+    }
+
+    // The 50 squares of the 10x10 board are the most that still fit above the lower bits.
+    public static long encode(int from, int to, long capturedPieces, boolean isPromotion) {
+        return from
+                | ((long) to << TO_SHIFT)
+                | (isPromotion ? 1L << PROMOTION_SHIFT : 0L)
+                | (capturedPieces << CAPTURE_SHIFT);
+    }
+
+    public static int getFrom(long move) {
+        return (int) (move & SQUARE_MASK);
+    }
+
+    public static int getTo(long move) {
+        return (int) ((move >>> TO_SHIFT) & SQUARE_MASK);
+    }
+
+    public static boolean isPromotion(long move) {
+        return ((move >>> PROMOTION_SHIFT) & 1L) != 0;
+    }
+
+    public static long getCapturedPieces(long move) {
+        return move >>> CAPTURE_SHIFT;
+    }
+
+    public static boolean isCapture(long move) {
+        return getCapturedPieces(move) != 0;
+    }
+
+    public static String toString(long move) {
+        if (move == NONE) {
+            return "none";
+        }
+        // Squares are shown from 1 to 32 like in the usual checkers notation.
+        return (getFrom(move) + 1) + (isCapture(move) ? "x" : "-") + (getTo(move) + 1);
+    }
+}
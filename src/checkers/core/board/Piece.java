@@ -1,18 +1,12 @@
-package checkers.core.gui;
-
-import checkers.core.board.FieldManager;
-import checkers.hosting.interfaces.*;
-import javafx.scene.Group;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
+package checkers.core.board;
 
 import java.util.Objects;
 
 /**
- * This symbolises a game piece that is used for the board in {@link FieldManager}
- * and for rendering in the GUI section {@link SceneManager}.
+ * This symbolises a game piece that is used for the board in {@link FieldManager}.
+ * It is a plain model without any JavaFX node, the GUI shows it with a {@link checkers.core.gui.PieceView}.
  */
-public class Piece extends Group {
+public class Piece {
 
     public enum PieceColor {
         BLACK, RED
@@ -22,16 +16,12 @@ public class Piece extends Group {
     private int col;
     private PieceColor color;
     private boolean isKing;
-    private Circle circle;
-    private BaseDataService baseDataService;
 
-    public Piece(int row, int col, PieceColor color, BaseDataService baseDataService) {
-        this.baseDataService = baseDataService;
+    public Piece(int row, int col, PieceColor color) {
         this.row = row;
         this.col = col;
         this.color = color;
         this.isKing = false;
-        setCircle(new Circle(30, color == PieceColor.RED ? Color.RED : Color.BLACK));
     }
 
     public int getRow() {
@@ -58,28 +48,12 @@ public class Piece extends Group {
         this.color = color;
     }
 
-    public Circle getCircle() {
-        return circle;
-    }
-
-    public void setCircle(Circle circle) {
-        this.circle = circle;
-        // The circle is placed in the centre of the square area,
-        // provided the size of the square is twice the size of the circle.
-        double squareWidth = this.baseDataService.getSquareSize();
-        double circleRadius = circle.getRadius() * 2;
-        double offset = (squareWidth - circleRadius) / 2;
-        circle.setCenterX(offset + circle.getRadius());
-        circle.setCenterY(offset + circle.getRadius());
-    }
-
     public boolean isKing() {
         return isKing;
     }
 
     public void makeKing() {
         isKing = true;
-        circle.setFill(color == PieceColor.RED ? Color.LIGHTCORAL : Color.DARKGRAY);
     }
 
     @Override
@@ -103,4 +77,4 @@ public class Piece extends Group {
     public String toString() {
         return "Piece{" + "row: " + row + ", col: " + col + ", color: " + color + ", isKing: " + isKing + '}';
     }
-}
\ No newline at end of file
+}
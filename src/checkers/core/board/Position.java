@@ -0,0 +1,349 @@
+package checkers.core.board;
+
+import checkers.core.board.Piece.PieceColor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Represents a checkers position as bitboards over the playable squares of a {@link BoardGeometry}.
+ *
+ * On the 8x8 board the playable squares are numbered from 0 to 31, row by row from the top of the board,
+ * so that the square of a row and a column is {@code row * 4 + col / 2}. The static square methods and constants
+ * describe this board, the 10x10 board uses the methods of its geometry. Bit n of every mask stands for the square n.
+ *
+ * Moves are played with {@link #makeMove} and taken back with {@link #unmakeMove}. The previous masks are kept
+ * on an undo stack that is allocated in advance, so exploring a line of moves does not create any objects.
+ * Every change of the position also updates its {@link Zobrist} hash.
+ */
+public class Position {
+
+    public static final int BOARD_SIZE = BoardGeometry.STANDARD.getBoardSize();
+    public static final int SQUARE_COUNT = BoardGeometry.STANDARD.getSquareCount();
+    private static final int INITIAL_UNDO_CAPACITY = 128;
+
+    private final BoardGeometry geometry;
+    private long redPieces;
+    private long blackPieces;
+    private long kingPieces;
+    private PieceColor sideToMove;
+    private long hash;
+    private long[] undoRedPieces;
+    private long[] undoBlackPieces;
+    private long[] undoKingPieces;
+    private long[] undoHashes;
+    private int undoCount;
+
+    public Position() {
+        this(BoardGeometry.STANDARD);
+    }
+
+    public Position(BoardGeometry geometry) {
+        this(geometry, 0L, 0L, 0L, PieceColor.BLACK);
+    }
+
+    public Position(long redPieces, long blackPieces, long kingPieces, PieceColor sideToMove) {
+        this(BoardGeometry.STANDARD, redPieces, blackPieces, kingPieces, sideToMove);
+    }
+
+    public Position(BoardGeometry geometry, long redPieces, long blackPieces, long kingPieces, PieceColor sideToMove) {
+        this.geometry = geometry;
+        this.redPieces = redPieces;
+        this.blackPieces = blackPieces;
+        this.kingPieces = kingPieces;
+        this.sideToMove = sideToMove;
+        this.hash = Zobrist.computeHash(redPieces, blackPieces, kingPieces, sideToMove);
+        this.undoRedPieces = new long[INITIAL_UNDO_CAPACITY];
+        this.undoBlackPieces = new long[INITIAL_UNDO_CAPACITY];
+        this.undoKingPieces = new long[INITIAL_UNDO_CAPACITY];
+        this.undoHashes = new long[INITIAL_UNDO_CAPACITY];
+    }
+
+    // The human player with the black pieces makes the first move of the game.
+    public static Position createStartingPosition() {
+        return createStartingPosition(BoardGeometry.STANDARD);
+    }
+
+    public static Position createStartingPosition(BoardGeometry geometry) {
+        return new Position(geometry, geometry.getStartingPieces(PieceColor.RED), geometry.getStartingPieces(PieceColor.BLACK),
+                0L, PieceColor.BLACK);
+    }
+
+    // Returns -1 for the white squares, because no piece can ever stand on them.
+    public static int toSquare(int row, int col) {
+        return BoardGeometry.STANDARD.toSquare(row, col);
+    }
+
+    public static int toRow(int square) {
+        return BoardGeometry.STANDARD.toRow(square);
+    }
+
+    public static int toCol(int square) {
+        return BoardGeometry.STANDARD.toCol(square);
+    }
+
+    public BoardGeometry getGeometry() {
+        return geometry;
+    }
+
+    public long getRedPieces() {
+        return redPieces;
+    }
+
+    public long getBlackPieces() {
+        return blackPieces;
+    }
+
+    public long getKingPieces() {
+        return kingPieces;
+    }
+
+    public PieceColor getSideToMove() {
+        return sideToMove;
+    }
+
+    public void setSideToMove(PieceColor sideToMove) {
+        hash ^= Zobrist.getSideKey(this.sideToMove) ^ Zobrist.getSideKey(sideToMove);
+        this.sideToMove = sideToMove;
+    }
+
+    public long getHash() {
+        return hash;
+    }
+
+    public long getPieces(PieceColor color) {
+        return color == PieceColor.RED ? redPieces : blackPieces;
+    }
+
+    public long getOccupiedSquares() {
+        return redPieces | blackPieces;
+    }
+
+    public long getEmptySquares() {
+        return ~(redPieces | blackPieces) & geometry.getAllSquares();
+    }
+
+    public int getPieceCount() {
+        return Long.bitCount(redPieces | blackPieces);
+    }
+
+    public boolean isEmpty(int square) {
+        return ((redPieces | blackPieces) & (1L << square)) == 0;
+    }
+
+    public boolean isKing(int square) {
+        return (kingPieces & (1L << square)) != 0;
+    }
+
+    public Optional<PieceColor> getColor(int square) {
+        long bit = 1L << square;
+        if ((redPieces & bit) != 0) {
+            return Optional.of(PieceColor.RED);
+        }
+        if ((blackPieces & bit) != 0) {
+            return Optional.of(PieceColor.BLACK);
+        }
+        return Optional.empty();
+    }
+
+    public void setPiece(int square, PieceColor color, boolean isKing) {
+        clearSquare(square);
+        long bit = 1L << square;
+        if (color == PieceColor.RED) {
+            redPieces |= bit;
+        } else {
+            blackPieces |= bit;
+        }
+        if (isKing) {
+            kingPieces |= bit;
+        }
+        hash ^= Zobrist.getPieceKey(square, color, isKing);
+    }
+
+    // Replaces all pieces and the side to move at once and forgets the moves that were played before.
+    public void setPieces(long redPieces, long blackPieces, long kingPieces, PieceColor sideToMove) {
+        this.redPieces = redPieces;
+        this.blackPieces = blackPieces;
+        this.kingPieces = kingPieces;
+        this.sideToMove = sideToMove;
+        this.hash = Zobrist.computeHash(redPieces, blackPieces, kingPieces, sideToMove);
+        this.undoCount = 0;
+    }
+
+    public void clearSquare(int square) {
+        Optional<PieceColor> color = getColor(square);
+        if (color.isPresent()) {
+            hash ^= Zobrist.getPieceKey(square, color.get(), isKing(square));
+        }
+        long mask = ~(1L << square);
+        redPieces &= mask;
+        blackPieces &= mask;
+        kingPieces &= mask;
+    }
+
+    /**
+     * Plays the given {@link Move} for the side to move, which afterwards passes the turn to its opponent.
+     * The move has to be legal for this position.
+     */
+    public void makeMove(long move) {
+        if (undoCount == undoRedPieces.length) {
+            growUndoStack();
+        }
+        undoRedPieces[undoCount] = redPieces;
+        undoBlackPieces[undoCount] = blackPieces;
+        undoKingPieces[undoCount] = kingPieces;
+        undoHashes[undoCount] = hash;
+        undoCount++;
+
+        int from = Move.getFrom(move);
+        int to = Move.getTo(move);
+        long fromBit = 1L << from;
+        long toBit = 1L << to;
+        long capturedPieces = Move.getCapturedPieces(move);
+        boolean wasKing = (kingPieces & fromBit) != 0;
+        boolean isKing = wasKing || Move.isPromotion(move);
+        PieceColor opponent = sideToMove == PieceColor.RED ? PieceColor.BLACK : PieceColor.RED;
+        hash ^= Zobrist.getPieceKey(from, sideToMove, wasKing) ^ Zobrist.getPieceKey(to, sideToMove, isKing)
+                ^ Zobrist.getPiecesHash(capturedPieces & ~kingPieces, opponent, false)
+                ^ Zobrist.getPiecesHash(capturedPieces & kingPieces, opponent, true)
+                ^ Zobrist.getSideKey(PieceColor.RED);
+        if (sideToMove == PieceColor.RED) {
+            redPieces = (redPieces & ~fromBit) | toBit;
+            blackPieces &= ~capturedPieces;
+            sideToMove = PieceColor.BLACK;
+        } else {
+            blackPieces = (blackPieces & ~fromBit) | toBit;
+            redPieces &= ~capturedPieces;
+            sideToMove = PieceColor.RED;
+        }
+        kingPieces &= ~(fromBit | capturedPieces);
+        if (isKing) {
+            kingPieces |= toBit;
+        }
+    }
+
+    // Takes back the last move, including its captures and a promotion, and gives the turn back.
+    public void unmakeMove() {
+        if (undoCount == 0) {
+            throw new IllegalStateException("There is no move to take back");
+        }
+        undoCount--;
+        redPieces = undoRedPieces[undoCount];
+        blackPieces = undoBlackPieces[undoCount];
+        kingPieces = undoKingPieces[undoCount];
+        hash = undoHashes[undoCount];
+        sideToMove = sideToMove == PieceColor.RED ? PieceColor.BLACK : PieceColor.RED;
+    }
+
+    public int getPlayedMoveCount() {
+        return undoCount;
+    }
+
+    // Only happens when a line is longer than ever before, afterwards the stack is big enough again.
+    private void growUndoStack() {
+        int capacity = undoRedPieces.length * 2;
+        undoRedPieces = Arrays.copyOf(undoRedPieces, capacity);
+        undoBlackPieces = Arrays.copyOf(undoBlackPieces, capacity);
+        undoKingPieces = Arrays.copyOf(undoKingPieces, capacity);
+        undoHashes = Arrays.copyOf(undoHashes, capacity);
+    }
+
+    /**
+     * Reads a position in the FEN notation of {@link #toFen}, for example {@code "B:R1,2,K3:B30,31,32"}.
+     * The letter before the first colon is the side to move, the squares are numbered from 1 to 32
+     * and kings are marked with a leading K.
+     */
+    public static Position fromFen(String fen) {
+        return fromFen(BoardGeometry.STANDARD, fen);
+    }
+
+    // Reads a position of the given board, its squares are numbered from 1 to the number of playable squares.
+    public static Position fromFen(BoardGeometry geometry, String fen) {
+        String[] parts = fen.trim().split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid FEN: " + fen);
+        }
+        Position position = new Position(geometry);
+        position.setSideToMove(parseColor(parts[0], fen));
+        for (int i = 1; i < parts.length; i++) {
+            String part = parts[i].trim();
+            if (part.isEmpty()) {
+                throw new IllegalArgumentException("Invalid FEN: " + fen);
+            }
+            PieceColor color = parseColor(part.substring(0, 1), fen);
+            for (String squareText : part.substring(1).split(",")) {
+                String trimmedSquareText = squareText.trim();
+                if (trimmedSquareText.isEmpty()) {
+                    continue;
+                }
+                boolean isKing = trimmedSquareText.charAt(0) == 'K';
+                int square = Integer.parseInt(isKing ? trimmedSquareText.substring(1) : trimmedSquareText) - 1;
+                if (square < 0 || square >= geometry.getSquareCount()) {
+                    throw new IllegalArgumentException("Invalid square " + trimmedSquareText + " in FEN: " + fen);
+                }
+                position.setPiece(square, color, isKing);
+            }
+        }
+        return position;
+    }
+
+    public String toFen() {
+        return (sideToMove == PieceColor.RED ? "R" : "B") + ":R" + toFenSquares(redPieces) + ":B" + toFenSquares(blackPieces);
+    }
+
+    private String toFenSquares(long pieces) {
+        StringBuilder builder = new StringBuilder();
+        while (pieces != 0) {
+            int square = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            builder.append(builder.length() == 0 ? "" : ",").append(isKing(square) ? "K" : "").append(square + 1);
+        }
+        return builder.toString();
+    }
+
+    private static PieceColor parseColor(String text, String fen) {
+        switch (text.trim()) {
+            case "R":
+                return PieceColor.RED;
+            case "B":
+                return PieceColor.BLACK;
+            default:
+                throw new IllegalArgumentException("Invalid colour " + text + " in FEN: " + fen);
+        }
+    }
+
+    // Returns the position as the opponent sees it: the board is turned around and the colours are swapped.
+    public Position mirror() {
+        return new Position(geometry, geometry.rotate(blackPieces), geometry.rotate(redPieces), geometry.rotate(kingPieces),
+                sideToMove == PieceColor.RED ? PieceColor.BLACK : PieceColor.RED);
+    }
+
+    public Position copy() {
+        return new Position(geometry, redPieces, blackPieces, kingPieces, sideToMove);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        Position otherPosition = (Position) obj;
+        return geometry == otherPosition.geometry && redPieces == otherPosition.redPieces && blackPieces == otherPosition.blackPieces
+                && kingPieces == otherPosition.kingPieces && sideToMove == otherPosition.sideToMove;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * Long.hashCode(redPieces) + Long.hashCode(blackPieces)) + Long.hashCode(kingPieces))
+                + sideToMove.ordinal();
+    }
+
+    @Override
+    public String toString() {
+        return "Position{" + "board: " + geometry + ", red: " + Long.toHexString(redPieces) + ", black: "
+                + Long.toHexString(blackPieces) + ", kings: " + Long.toHexString(kingPieces) + ", sideToMove: " + sideToMove + '}';
+    }
+}
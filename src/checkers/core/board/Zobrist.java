@@ -0,0 +1,82 @@
+package checkers.core.board;
+
+import checkers.core.board.Piece.PieceColor;
+
+import java.util.SplittableRandom;
+
+/**
+ * Holds the random keys of the Zobrist hashing of a {@link Position}.
+ *
+ * The hash of a position is the XOR of one key for every piece, chosen by its square, colour and king status,
+ * and of the side key when red is to move. A move only changes a few keys, so the {@link Position} updates
+ * its hash with a few XOR operations instead of computing it again.
+ */
+public final class Zobrist {
+
+    // Fixed, so that the hashes stay the same between runs and can be stored in files.
+    private static final long SEED = 0x5DEECE66DL;
+    private static final long[] RED_MAN_KEYS = new long[BoardGeometry.MAX_SQUARE_COUNT];
+    private static final long[] RED_KING_KEYS = new long[BoardGeometry.MAX_SQUARE_COUNT];
+    private static final long[] BLACK_MAN_KEYS = new long[BoardGeometry.MAX_SQUARE_COUNT];
+    private static final long[] BLACK_KING_KEYS = new long[BoardGeometry.MAX_SQUARE_COUNT];
+    private static final long RED_TO_MOVE_KEY;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        fillKeys(random, 0, Position.SQUARE_COUNT);
+        RED_TO_MOVE_KEY = random.nextLong();
+        // The keys of the larger boards come last, so the stored hashes of the 8x8 board keep their values.
+        fillKeys(random, Position.SQUARE_COUNT, BoardGeometry.MAX_SQUARE_COUNT);
+    }
+
+    // No one should be able to create an instance of this class, because it only holds the keys.
+    private Zobrist() {
+    }
+
+    private static void fillKeys(SplittableRandom random, int firstSquare, int endSquare) {
+        for (int square = firstSquare; square < endSquare; square++) {
+            RED_MAN_KEYS[square] = random.nextLong();
+            RED_KING_KEYS[square] = random.nextLong();
+            BLACK_MAN_KEYS[square] = random.nextLong();
+            BLACK_KING_KEYS[square] = random.nextLong();
+        }
+    }
+
+    public static long getPieceKey(int square, PieceColor color, boolean isKing) {
+        if (color == PieceColor.RED) {
+            return isKing ? RED_KING_KEYS[square] : RED_MAN_KEYS[square];
+        }
+        return isKing ? BLACK_KING_KEYS[square] : BLACK_MAN_KEYS[square];
+    }
+
+    public static long getSideKey(PieceColor sideToMove) {
+        return sideToMove == PieceColor.RED ? RED_TO_MOVE_KEY : 0L;
+    }
+
+    // Computes the hash of the whole position, the Position itself only needs this when it is created.
+    public static long computeHash(long redPieces, long blackPieces, long kingPieces, PieceColor sideToMove) {
+        long hash = getSideKey(sideToMove);
+        hash ^= getPiecesHash(redPieces & ~kingPieces, RED_MAN_KEYS);
+        hash ^= getPiecesHash(redPieces & kingPieces, RED_KING_KEYS);
+        hash ^= getPiecesHash(blackPieces & ~kingPieces, BLACK_MAN_KEYS);
+        hash ^= getPiecesHash(blackPieces & kingPieces, BLACK_KING_KEYS);
+        return hash;
+    }
+
+    // Combines the keys of all pieces of the mask.
+    public static long getPiecesHash(long pieces, PieceColor color, boolean isKing) {
+        if (color == PieceColor.RED) {
+            return getPiecesHash(pieces, isKing ? RED_KING_KEYS : RED_MAN_KEYS);
+        }
+        return getPiecesHash(pieces, isKing ? BLACK_KING_KEYS : BLACK_MAN_KEYS);
+    }
+
+    private static long getPiecesHash(long pieces, long[] keys) {
+        long hash = 0L;
+        while (pieces != 0) {
+            hash ^= keys[Long.numberOfTrailingZeros(pieces)];
+            pieces &= pieces - 1;
+        }
+        return hash;
+    }
+}
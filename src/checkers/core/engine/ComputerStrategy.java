@@ -0,0 +1,11 @@
+package checkers.core.engine;
+
+/**
+ * The ways in which the computer player can choose its moves.
+ */
+public enum ComputerStrategy {
+    // Plays the first capture or step that is found, without looking ahead.
+    GREEDY,
+    // Looks ahead with the alpha-beta search of the SearchEngine.
+    ALPHA_BETA
+}
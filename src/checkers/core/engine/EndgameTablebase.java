@@ -0,0 +1,102 @@
+package checkers.core.engine;
+
+import checkers.core.board.Position;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Knows the perfect result of every endgame position whose table has been generated by the {@link TablebaseGenerator}.
+ *
+ * There is one file per {@link MaterialSignature}. After a short header it stores the result of every index
+ * of the signature in two bits, four results per byte. The files are memory-mapped, so the tables do not take
+ * any space on the Java heap and the operating system only loads the pages that are actually probed.
+ * A probe only reads from the mapped files, so any number of search threads can probe at the same time.
+ */
+public class EndgameTablebase {
+
+    public static final String FILE_EXTENSION = ".wdl";
+    static final int MAGIC = 0x434B5442;
+    static final int VERSION = 1;
+    // Magic, version, the four piece counts and the number of positions.
+    static final int HEADER_BYTES = 2 * Integer.BYTES + 4 + Long.BYTES;
+    private static final int KEY_COUNT = 1 << 16;
+    private static final Optional<TablebaseResult> DRAW = Optional.of(TablebaseResult.DRAW);
+    private static final Optional<TablebaseResult> WIN = Optional.of(TablebaseResult.WIN);
+    private static final Optional<TablebaseResult> LOSS = Optional.of(TablebaseResult.LOSS);
+
+    private final MaterialSignature[] signatures;
+    private final ByteBuffer[] tables;
+    private int maxPieces;
+
+    // Maps all table files of the directory, a directory without tables gives an empty tablebase.
+    public EndgameTablebase(Path directory) throws IOException {
+        signatures = new MaterialSignature[KEY_COUNT];
+        tables = new ByteBuffer[KEY_COUNT];
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_EXTENSION)) {
+            for (Path file : files) {
+                load(file);
+            }
+        }
+    }
+
+    // Adds the table of a new file, the TablebaseGenerator uses it to look up the tables it has just written.
+    void load(Path file) throws IOException {
+        ByteBuffer table;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("The tablebase file " + file + " is too short");
+            }
+            table = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (table.getInt(0) != MAGIC || table.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("The file " + file + " is no tablebase file of version " + VERSION);
+        }
+        int countOffset = 2 * Integer.BYTES;
+        MaterialSignature signature = new MaterialSignature(table.get(countOffset), table.get(countOffset + 1),
+                table.get(countOffset + 2), table.get(countOffset + 3));
+        long positionCount = table.getLong(countOffset + 4);
+        if (positionCount != signature.getPositionCount() || table.capacity() != HEADER_BYTES + (positionCount + 3) / 4) {
+            throw new IOException("The tablebase file " + file + " does not match its header");
+        }
+        signatures[signature.getKey()] = signature;
+        tables[signature.getKey()] = table;
+        maxPieces = Math.max(maxPieces, signature.getPieceCount());
+    }
+
+    /**
+     * Returns the result of the position for its side to move, or nothing if the table of its material has not
+     * been generated. A side without pieces has lost, so positions with only one colour are always known.
+     */
+    public Optional<TablebaseResult> probe(Position position) {
+        if (position.getRedPieces() == 0 || position.getBlackPieces() == 0) {
+            return position.getPieces(position.getSideToMove()) == 0 ? LOSS : WIN;
+        }
+        if (position.getPieceCount() > maxPieces || !MaterialSignature.isIndexable(position)) {
+            return Optional.empty();
+        }
+        int key = MaterialSignature.getKey(position);
+        ByteBuffer table = tables[key];
+        if (table == null) {
+            return Optional.empty();
+        }
+        long index = signatures[key].getIndex(position);
+        int code = (table.get(HEADER_BYTES + (int) (index >>> 2)) >>> ((int) (index & 3) * 2)) & 3;
+        return code == TablebaseResult.WIN.getCode() ? WIN : code == TablebaseResult.LOSS.getCode() ? LOSS : DRAW;
+    }
+
+    public boolean contains(MaterialSignature signature) {
+        return tables[signature.getKey()] != null;
+    }
+
+    // The largest number of pieces of a table, positions with more pieces are never in the tablebase.
+    public int getMaxPieces() {
+        return maxPieces;
+    }
+}
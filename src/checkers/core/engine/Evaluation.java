@@ -0,0 +1,31 @@
+package checkers.core.engine;
+
+import checkers.core.board.Position;
+
+/**
+ * Scores a position for the {@link SearchEngine}.
+ *
+ * An evaluation may split its score into a piece score, which is the sum of values of the single pieces,
+ * and the rest. The search then keeps the piece score up to date with {@link #getMoveDelta} while it plays
+ * the moves, so it never has to look at all pieces of a position again.
+ */
+public interface Evaluation {
+
+    // Positive values are good for the side to move and negative values are good for its opponent.
+    int evaluate(Position position);
+
+    // The piece score of the position from the view of red.
+    default int getPieceScore(Position position) {
+        return 0;
+    }
+
+    // How much the move changes the piece score, it is called before the move is played on the position.
+    default int getMoveDelta(Position position, long move) {
+        return 0;
+    }
+
+    // Scores the position with its current piece score, which the search has kept up to date.
+    default int evaluate(Position position, int pieceScore) {
+        return evaluate(position);
+    }
+}
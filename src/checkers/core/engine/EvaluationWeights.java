@@ -0,0 +1,112 @@
+package checkers.core.engine;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Holds the weights of the terms of the {@link PositionalEvaluation}, in hundredths of a man.
+ *
+ * The weights are read from a properties file, for example {@code king = 140}. Weights that are missing
+ * in the file keep their default value, so a file only has to name the weights that it changes.
+ */
+public final class EvaluationWeights {
+
+    public static final String MAN = "man";
+    public static final String KING = "king";
+    public static final String BACK_RANK_GUARD = "backRankGuard";
+    public static final String CENTRE = "centre";
+    public static final String MOBILITY = "mobility";
+    public static final String TEMPO = "tempo";
+    public static final EvaluationWeights DEFAULT = new EvaluationWeights(100, 130, 10, 6, 2, 2);
+
+    private final int man;
+    private final int king;
+    private final int backRankGuard;
+    private final int centre;
+    private final int mobility;
+    private final int tempo;
+
+    /**
+     * @param man           the value of a man
+     * @param king          the value of a king
+     * @param backRankGuard the bonus of a man that still guards its own back row against the crowning of the opponent
+     * @param centre        the bonus of a piece on one of the squares in the centre of the board
+     * @param mobility      the bonus of every step or jump that a side has more than its opponent
+     * @param tempo         the bonus of a man for every row that it has advanced
+     */
+    public EvaluationWeights(int man, int king, int backRankGuard, int centre, int mobility, int tempo) {
+        this.man = man;
+        this.king = king;
+        this.backRankGuard = backRankGuard;
+        this.centre = centre;
+        this.mobility = mobility;
+        this.tempo = tempo;
+    }
+
+    public static EvaluationWeights load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+            properties.load(reader);
+        }
+        for (String name : properties.stringPropertyNames()) {
+            if (!isKnownWeight(name)) {
+                throw new IOException("Unknown weight " + name + " in " + file);
+            }
+        }
+        return new EvaluationWeights(getWeight(properties, MAN, DEFAULT.man, file), getWeight(properties, KING, DEFAULT.king, file),
+                getWeight(properties, BACK_RANK_GUARD, DEFAULT.backRankGuard, file),
+                getWeight(properties, CENTRE, DEFAULT.centre, file), getWeight(properties, MOBILITY, DEFAULT.mobility, file),
+                getWeight(properties, TEMPO, DEFAULT.tempo, file));
+    }
+
+    private static boolean isKnownWeight(String name) {
+        return MAN.equals(name) || KING.equals(name) || BACK_RANK_GUARD.equals(name) || CENTRE.equals(name)
+                || MOBILITY.equals(name) || TEMPO.equals(name);
+    }
+
+    private static int getWeight(Properties properties, String name, int defaultWeight, Path file) throws IOException {
+        String value = properties.getProperty(name);
+        if (value == null) {
+            return defaultWeight;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid weight " + name + " = " + value + " in " + file, e);
+        }
+    }
+
+    public int getMan() {
+        return man;
+    }
+
+    public int getKing() {
+        return king;
+    }
+
+    public int getBackRankGuard() {
+        return backRankGuard;
+    }
+
+    public int getCentre() {
+        return centre;
+    }
+
+    public int getMobility() {
+        return mobility;
+    }
+
+    public int getTempo() {
+        return tempo;
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationWeights{" + MAN + ": " + man + ", " + KING + ": " + king + ", " + BACK_RANK_GUARD + ": " + backRankGuard
+                + ", " + CENTRE + ": " + centre + ", " + MOBILITY + ": " + mobility + ", " + TEMPO + ": " + tempo + '}';
+    }
+}
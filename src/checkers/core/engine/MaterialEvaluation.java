@@ -0,0 +1,23 @@
+package checkers.core.engine;
+
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
+
+/**
+ * Scores a position only by counting the men and kings of both sides.
+ */
+public class MaterialEvaluation implements Evaluation {
+
+    public static final int MAN_VALUE = 100;
+    public static final int KING_VALUE = 130;
+
+    @Override
+    public int evaluate(Position position) {
+        long kingPieces = position.getKingPieces();
+        long redPieces = position.getRedPieces();
+        long blackPieces = position.getBlackPieces();
+        int score = MAN_VALUE * (Long.bitCount(redPieces & ~kingPieces) - Long.bitCount(blackPieces & ~kingPieces))
+                + KING_VALUE * (Long.bitCount(redPieces & kingPieces) - Long.bitCount(blackPieces & kingPieces));
+        return position.getSideToMove() == PieceColor.RED ? score : -score;
+    }
+}
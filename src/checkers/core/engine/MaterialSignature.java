@@ -0,0 +1,221 @@
+package checkers.core.engine;
+
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Describes the material of an endgame: the number of men and kings of both sides.
+ * All positions with the same material are stored together in one table of the {@link EndgameTablebase}.
+ *
+ * Every position of a signature has a unique index. The squares of each group of pieces are numbered
+ * in colex order, so that a group of k pieces on n possible squares needs exactly C(n, k) numbers.
+ * Men can never stand on the row where they are crowned, so they only have 28 possible squares.
+ * Positions in which pieces of different groups stand on the same square have an index, but are never used.
+ */
+public final class MaterialSignature {
+
+    public static final int MAX_PIECES_PER_SIDE = 12;
+    private static final int MAN_SQUARE_COUNT = Position.SQUARE_COUNT - 4;
+    private static final int BLACK_MAN_OFFSET = 4;
+    private static final long RED_MAN_SQUARES = 0x0FFFFFFFL;
+    private static final long BLACK_MAN_SQUARES = 0xFFFFFFF0L;
+    private static final int COUNT_BITS = 4;
+    // Binomial coefficients C(n, k) for all group sizes that can occur on the board.
+    private static final long[][] BINOMIALS = new long[Position.SQUARE_COUNT + 1][MAX_PIECES_PER_SIDE + 1];
+
+    static {
+        for (int n = 0; n <= Position.SQUARE_COUNT; n++) {
+            BINOMIALS[n][0] = 1;
+            for (int k = 1; k <= MAX_PIECES_PER_SIDE && n > 0; k++) {
+                BINOMIALS[n][k] = BINOMIALS[n - 1][k - 1] + BINOMIALS[n - 1][k];
+            }
+        }
+    }
+
+    private final int redMen;
+    private final int redKings;
+    private final int blackMen;
+    private final int blackKings;
+    private final long redManIndexes;
+    private final long redKingIndexes;
+    private final long blackManIndexes;
+    private final long blackKingIndexes;
+
+    public MaterialSignature(int redMen, int redKings, int blackMen, int blackKings) {
+        if (redMen < 0 || redKings < 0 || blackMen < 0 || blackKings < 0
+                || redMen + redKings > MAX_PIECES_PER_SIDE || blackMen + blackKings > MAX_PIECES_PER_SIDE) {
+            throw new IllegalArgumentException("Invalid material: " + redMen + ", " + redKings + ", " + blackMen + ", " + blackKings);
+        }
+        this.redMen = redMen;
+        this.redKings = redKings;
+        this.blackMen = blackMen;
+        this.blackKings = blackKings;
+        this.redManIndexes = BINOMIALS[MAN_SQUARE_COUNT][redMen];
+        this.redKingIndexes = BINOMIALS[Position.SQUARE_COUNT][redKings];
+        this.blackManIndexes = BINOMIALS[MAN_SQUARE_COUNT][blackMen];
+        this.blackKingIndexes = BINOMIALS[Position.SQUARE_COUNT][blackKings];
+    }
+
+    public static MaterialSignature of(Position position) {
+        long kings = position.getKingPieces();
+        return new MaterialSignature(Long.bitCount(position.getRedPieces() & ~kings), Long.bitCount(position.getRedPieces() & kings),
+                Long.bitCount(position.getBlackPieces() & ~kings), Long.bitCount(position.getBlackPieces() & kings));
+    }
+
+    /**
+     * Lists all signatures in which both sides have at least one piece and that have at most the given number of pieces,
+     * in the order in which they have to be generated: a capture leads to a signature with fewer pieces
+     * and a crowning to one with fewer men, so both come earlier in the list.
+     */
+    public static List<MaterialSignature> enumerate(int maxPieces) {
+        List<MaterialSignature> signatures = new ArrayList<>();
+        for (int redPieces = 1; redPieces <= Math.min(maxPieces - 1, MAX_PIECES_PER_SIDE); redPieces++) {
+            for (int blackPieces = 1; blackPieces <= Math.min(maxPieces - redPieces, MAX_PIECES_PER_SIDE); blackPieces++) {
+                for (int redMen = 0; redMen <= redPieces; redMen++) {
+                    for (int blackMen = 0; blackMen <= blackPieces; blackMen++) {
+                        signatures.add(new MaterialSignature(redMen, redPieces - redMen, blackMen, blackPieces - blackMen));
+                    }
+                }
+            }
+        }
+        signatures.sort(Comparator.comparingInt(MaterialSignature::getPieceCount).thenComparingInt(MaterialSignature::getMenCount));
+        return signatures;
+    }
+
+    // Identifies the material of a position without creating a signature, the key fits into 16 bits.
+    public static int getKey(Position position) {
+        long kings = position.getKingPieces();
+        return getKey(Long.bitCount(position.getRedPieces() & ~kings), Long.bitCount(position.getRedPieces() & kings),
+                Long.bitCount(position.getBlackPieces() & ~kings), Long.bitCount(position.getBlackPieces() & kings));
+    }
+
+    private static int getKey(int redMen, int redKings, int blackMen, int blackKings) {
+        return redMen | redKings << COUNT_BITS | blackMen << 2 * COUNT_BITS | blackKings << 3 * COUNT_BITS;
+    }
+
+    public int getKey() {
+        return getKey(redMen, redKings, blackMen, blackKings);
+    }
+
+    // A man on the row where it would have been crowned can not occur in a game and has no index.
+    public static boolean isIndexable(Position position) {
+        long men = ~position.getKingPieces();
+        return (position.getRedPieces() & men & ~RED_MAN_SQUARES) == 0 && (position.getBlackPieces() & men & ~BLACK_MAN_SQUARES) == 0;
+    }
+
+    public int getRedMen() {
+        return redMen;
+    }
+
+    public int getRedKings() {
+        return redKings;
+    }
+
+    public int getBlackMen() {
+        return blackMen;
+    }
+
+    public int getBlackKings() {
+        return blackKings;
+    }
+
+    public int getPieceCount() {
+        return redMen + redKings + blackMen + blackKings;
+    }
+
+    public int getMenCount() {
+        return redMen + blackMen;
+    }
+
+    // Both sides can be to move, so every placement of the pieces has two indexes.
+    public long getPositionCount() {
+        return redManIndexes * redKingIndexes * blackManIndexes * blackKingIndexes * 2;
+    }
+
+    // The position must have the material of this signature.
+    public long getIndex(Position position) {
+        long kings = position.getKingPieces();
+        long index = rank(position.getRedPieces() & ~kings, 0);
+        index = index * redKingIndexes + rank(position.getRedPieces() & kings, 0);
+        index = index * blackManIndexes + rank(position.getBlackPieces() & ~kings, BLACK_MAN_OFFSET);
+        index = index * blackKingIndexes + rank(position.getBlackPieces() & kings, 0);
+        return index * 2 + (position.getSideToMove() == PieceColor.RED ? 1 : 0);
+    }
+
+    // Places the pieces of the given index on the position. Returns false if two pieces would share a square.
+    public boolean setPosition(long index, Position position) {
+        PieceColor sideToMove = (index & 1) != 0 ? PieceColor.RED : PieceColor.BLACK;
+        long groupIndexes = index >>> 1;
+        long blackKingSquares = unrank(groupIndexes % blackKingIndexes, blackKings, 0);
+        groupIndexes /= blackKingIndexes;
+        long blackManSquares = unrank(groupIndexes % blackManIndexes, blackMen, BLACK_MAN_OFFSET);
+        groupIndexes /= blackManIndexes;
+        long redKingSquares = unrank(groupIndexes % redKingIndexes, redKings, 0);
+        long redManSquares = unrank(groupIndexes / redKingIndexes, redMen, 0);
+        long redPieces = redManSquares | redKingSquares;
+        long blackPieces = blackManSquares | blackKingSquares;
+        if (Long.bitCount(redPieces) + Long.bitCount(blackPieces) != getPieceCount() || (redPieces & blackPieces) != 0) {
+            return false;
+        }
+        position.setPieces(redPieces, blackPieces, redKingSquares | blackKingSquares, sideToMove);
+        return true;
+    }
+
+    private static long rank(long squares, int offset) {
+        long rank = 0;
+        int pieceNumber = 1;
+        while (squares != 0) {
+            int square = Long.numberOfTrailingZeros(squares);
+            squares &= squares - 1;
+            rank += BINOMIALS[square - offset][pieceNumber++];
+        }
+        return rank;
+    }
+
+    private static long unrank(long rank, int pieceCount, int offset) {
+        long squares = 0;
+        int square = Position.SQUARE_COUNT - 1;
+        for (int pieceNumber = pieceCount; pieceNumber > 0; pieceNumber--) {
+            while (BINOMIALS[square][pieceNumber] > rank) {
+                square--;
+            }
+            squares |= 1L << (square + offset);
+            rank -= BINOMIALS[square][pieceNumber];
+            square--;
+        }
+        return squares;
+    }
+
+    public String getFileName() {
+        return "r" + redMen + "k" + redKings + "-b" + blackMen + "k" + blackKings + EndgameTablebase.FILE_EXTENSION;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        MaterialSignature otherSignature = (MaterialSignature) obj;
+        return redMen == otherSignature.redMen && redKings == otherSignature.redKings
+                && blackMen == otherSignature.blackMen && blackKings == otherSignature.blackKings;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(redMen, redKings, blackMen, blackKings);
+    }
+
+    @Override
+    public String toString() {
+        return "MaterialSignature{" + "red: " + redMen + " men " + redKings + " kings, black: " + blackMen + " men "
+                + blackKings + " kings}";
+    }
+}
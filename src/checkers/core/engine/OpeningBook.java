@@ -0,0 +1,126 @@
+package checkers.core.engine;
+
+import checkers.core.board.Position;
+import checkers.core.logic.MoveGenerator;
+import checkers.core.logic.MoveList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+import java.util.Random;
+
+/**
+ * Knows good moves for the positions of the opening, so that the computer player can reply without searching.
+ *
+ * The book file is written by the {@link OpeningBookBuilder}. After a short header it contains one entry per
+ * position and move: the Zobrist hash of the position, the move and its weight. The entries are sorted by hash,
+ * so the moves of a position are found by a binary search in the memory-mapped file.
+ */
+public class OpeningBook {
+
+    static final int MAGIC = 0x434B424B;
+    static final int VERSION = 1;
+    // Magic, version and the number of entries.
+    static final int HEADER_BYTES = 2 * Integer.BYTES + Long.BYTES;
+    static final int ENTRY_BYTES = 2 * Long.BYTES + Integer.BYTES;
+
+    private final ByteBuffer entries;
+    private final int entryCount;
+    private final MoveList legalMoves;
+
+    public OpeningBook(Path file) throws IOException {
+        ByteBuffer book;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("The opening book " + file + " is too short");
+            }
+            book = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (book.getInt(0) != MAGIC || book.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("The file " + file + " is no opening book of version " + VERSION);
+        }
+        long count = book.getLong(2 * Integer.BYTES);
+        if (book.capacity() != HEADER_BYTES + count * ENTRY_BYTES) {
+            throw new IOException("The opening book " + file + " does not match its header");
+        }
+        this.entries = book;
+        this.entryCount = (int) count;
+        this.legalMoves = new MoveList();
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    // Returns 0 if the book does not contain the move for the position.
+    public int getWeight(Position position, long move) {
+        long hash = position.getHash();
+        for (int entry = findFirstEntry(hash); entry < entryCount && getHash(entry) == hash; entry++) {
+            if (getMove(entry) == move) {
+                return getWeight(entry);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Chooses one of the book moves of the position at random, moves with a higher weight are chosen more often.
+     * Only moves that are legal in the position are considered, so a collision of two hashes never leads to an illegal move.
+     */
+    public synchronized OptionalLong chooseMove(Position position, Random random) {
+        long hash = position.getHash();
+        int firstEntry = findFirstEntry(hash);
+        MoveGenerator.generateMoves(position, legalMoves);
+        long totalWeight = 0;
+        for (int entry = firstEntry; entry < entryCount && getHash(entry) == hash; entry++) {
+            if (legalMoves.contains(getMove(entry))) {
+                totalWeight += getWeight(entry);
+            }
+        }
+        if (totalWeight == 0) {
+            return OptionalLong.empty();
+        }
+        long choice = (long) (random.nextDouble() * totalWeight);
+        long chosenMove = 0;
+        for (int entry = firstEntry; entry < entryCount && getHash(entry) == hash; entry++) {
+            if (legalMoves.contains(getMove(entry))) {
+                chosenMove = getMove(entry);
+                choice -= getWeight(entry);
+                if (choice < 0) {
+                    break;
+                }
+            }
+        }
+        return OptionalLong.of(chosenMove);
+    }
+
+    // Returns the first entry whose hash is not smaller than the given hash.
+    private int findFirstEntry(long hash) {
+        int low = 0;
+        int high = entryCount;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getHash(middle) < hash) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long getHash(int entry) {
+        return entries.getLong(HEADER_BYTES + entry * ENTRY_BYTES);
+    }
+
+    private long getMove(int entry) {
+        return entries.getLong(HEADER_BYTES + entry * ENTRY_BYTES + Long.BYTES);
+    }
+
+    private int getWeight(int entry) {
+        return entries.getInt(HEADER_BYTES + entry * ENTRY_BYTES + 2 * Long.BYTES);
+    }
+}
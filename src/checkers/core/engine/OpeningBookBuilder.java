@@ -0,0 +1,112 @@
+package checkers.core.engine;
+
+import checkers.core.board.Position;
+import checkers.core.logic.MoveGenerator;
+import checkers.core.logic.MoveList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Collects the moves of played games and writes them as an {@link OpeningBook}.
+ *
+ * Every time a move is added for a position, its weight grows, so the moves that were played most often
+ * are chosen most often from the book. The games can come from self-play or from any other game records.
+ */
+public class OpeningBookBuilder {
+
+    // Moves that score at most this much worse than the best move are played as well, so that self-play varies.
+    private static final int SELF_PLAY_MARGIN = 10;
+
+    private final Map<Long, Map<Long, Integer>> weights;
+
+    public OpeningBookBuilder() {
+        weights = new HashMap<>();
+    }
+
+    public void add(Position position, long move, int weight) {
+        weights.computeIfAbsent(position.getHash(), hash -> new HashMap<>()).merge(move, weight, Integer::sum);
+    }
+
+    // Adds the moves of a game from the given start position. The start position is not changed.
+    public void addGame(Position startPosition, long[] moves, int plies) {
+        Position position = startPosition.copy();
+        for (int ply = 0; ply < Math.min(plies, moves.length); ply++) {
+            add(position, moves[ply], 1);
+            position.makeMove(moves[ply]);
+        }
+    }
+
+    /**
+     * Plays games against itself from the starting position and adds their first plies.
+     * Every move is chosen at random among the moves that score almost as well as the best one
+     * in a search of the given depth.
+     */
+    public void addSelfPlayGames(int gameCount, int plies, int searchDepth, long seed) {
+        Random random = new Random(seed);
+        SearchEngine searchEngine = new SearchEngine(new MaterialEvaluation(), new TranspositionTable(16));
+        MoveList moves = new MoveList();
+        List<Long> goodMoves = new ArrayList<>();
+        for (int game = 0; game < gameCount; game++) {
+            Position position = Position.createStartingPosition();
+            for (int ply = 0; ply < plies; ply++) {
+                MoveGenerator.generateMoves(position, moves);
+                if (moves.isEmpty()) {
+                    break;
+                }
+                int[] scores = new int[moves.size()];
+                int bestScore = -SearchEngine.WIN_SCORE - 1;
+                for (int i = 0; i < moves.size(); i++) {
+                    position.makeMove(moves.get(i));
+                    scores[i] = searchDepth > 1 ? -searchEngine.search(position, searchDepth - 1).getScore() : 0;
+                    position.unmakeMove();
+                    bestScore = Math.max(bestScore, scores[i]);
+                }
+                goodMoves.clear();
+                for (int i = 0; i < moves.size(); i++) {
+                    if (scores[i] >= bestScore - SELF_PLAY_MARGIN) {
+                        goodMoves.add(moves.get(i));
+                    }
+                }
+                long move = goodMoves.get(random.nextInt(goodMoves.size()));
+                add(position, move, 1);
+                position.makeMove(move);
+            }
+        }
+    }
+
+    public int getPositionCount() {
+        return weights.size();
+    }
+
+    // Writes all entries sorted by hash and move, so that the OpeningBook can find them by binary search.
+    public void write(Path file) throws IOException {
+        List<long[]> entries = new ArrayList<>();
+        for (Map.Entry<Long, Map<Long, Integer>> positionEntry : weights.entrySet()) {
+            for (Map.Entry<Long, Integer> moveEntry : positionEntry.getValue().entrySet()) {
+                entries.add(new long[]{positionEntry.getKey(), moveEntry.getKey(), moveEntry.getValue()});
+            }
+        }
+        entries.sort((first, second) -> first[0] != second[0] ? Long.compare(first[0], second[0]) : Long.compare(first[1], second[1]));
+        ByteBuffer buffer = ByteBuffer.allocate(OpeningBook.HEADER_BYTES + entries.size() * OpeningBook.ENTRY_BYTES);
+        buffer.putInt(OpeningBook.MAGIC).putInt(OpeningBook.VERSION).putLong(entries.size());
+        for (long[] entry : entries) {
+            buffer.putLong(entry[0]).putLong(entry[1]).putInt((int) Math.min(entry[2], Integer.MAX_VALUE));
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+}
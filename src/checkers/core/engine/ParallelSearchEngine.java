@@ -0,0 +1,138 @@
+package checkers.core.engine;
+
+import checkers.core.board.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Searches with several threads at once in the way of Lazy SMP.
+ *
+ * Every thread runs its own {@link SearchEngine} on the same position, and all of them share one lock-free
+ * {@link TranspositionTable}. The helper threads fill the table with results that the main thread then does not
+ * have to search again. Half of the helpers start one depth ahead, so that the threads spread over the tree.
+ * The move of the main thread is played.
+ *
+ * The helpers run on an executor, which can be shared by the engines of many games. Helpers that have not started
+ * when the main thread is finished are cancelled, so a busy executor never delays the move.
+ */
+public class ParallelSearchEngine {
+
+    private final SearchEngine[] searchEngines;
+    private final TranspositionTable transpositionTable;
+    private final ExecutorService executorService;
+    // An executor that was passed in belongs to the caller and is not shut down with the engine.
+    private final boolean isExecutorOwned;
+
+    public ParallelSearchEngine(Evaluation evaluation, TranspositionTable transpositionTable, int threadCount) {
+        this(evaluation, transpositionTable, threadCount, threadCount == 1 ? null : createExecutor(threadCount - 1), true);
+    }
+
+    public ParallelSearchEngine(Evaluation evaluation, TranspositionTable transpositionTable, int threadCount,
+                                ExecutorService helperExecutor) {
+        this(evaluation, transpositionTable, threadCount, helperExecutor, false);
+    }
+
+    private ParallelSearchEngine(Evaluation evaluation, TranspositionTable transpositionTable, int threadCount,
+                                 ExecutorService executorService, boolean isExecutorOwned) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("The search needs at least one thread, but got " + threadCount);
+        }
+        this.transpositionTable = transpositionTable;
+        this.searchEngines = new SearchEngine[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            searchEngines[i] = new SearchEngine(evaluation, transpositionTable);
+        }
+        this.executorService = executorService;
+        this.isExecutorOwned = isExecutorOwned;
+    }
+
+    // The main thread of the search is the calling thread, so only the helpers need threads of their own.
+    public static ExecutorService createExecutor(int helperCount) {
+        return Executors.newFixedThreadPool(helperCount, runnable -> {
+            Thread thread = new Thread(runnable, "search-helper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SearchResult search(Position rootPosition, int maxDepth, long timeMillis) {
+        long startTime = System.nanoTime();
+        transpositionTable.newSearch();
+        List<Future<SearchResult>> helperResults = new ArrayList<>();
+        for (int i = 1; i < searchEngines.length; i++) {
+            SearchEngine helper = searchEngines[i];
+            int firstDepth = 1 + i % 2;
+            helper.resetStop();
+            helperResults.add(executorService.submit(() -> helper.iterate(rootPosition, maxDepth, timeMillis, firstDepth)));
+        }
+        searchEngines[0].resetStop();
+        SearchResult result = searchEngines[0].iterate(rootPosition, maxDepth, timeMillis, 1);
+        long nodes = result.getNodes();
+        long cutoffs = result.getCutoffs();
+        long firstMoveCutoffs = result.getFirstMoveCutoffs();
+        long quiescenceNodes = result.getQuiescenceNodes();
+        for (int i = 1; i < searchEngines.length; i++) {
+            searchEngines[i].stop();
+        }
+        for (Future<SearchResult> helperResult : helperResults) {
+            if (helperResult.cancel(false)) {
+                continue;
+            }
+            SearchResult helper = getHelperResult(helperResult);
+            nodes += helper.getNodes();
+            cutoffs += helper.getCutoffs();
+            firstMoveCutoffs += helper.getFirstMoveCutoffs();
+            quiescenceNodes += helper.getQuiescenceNodes();
+        }
+        return new SearchResult(result.getBestMove(), result.getScore(), result.getDepth(), nodes, System.nanoTime() - startTime,
+                cutoffs, firstMoveCutoffs, quiescenceNodes, result.getSelectiveDepth());
+    }
+
+    // Asks all threads to stop as soon as possible, the search then returns the move of the last completed depth.
+    public void stop() {
+        for (SearchEngine searchEngine : searchEngines) {
+            searchEngine.stop();
+        }
+    }
+
+    // Empties the shared transposition table and the move ordering of every thread, it must not run during a search.
+    public void clear() {
+        transpositionTable.clear();
+        for (SearchEngine searchEngine : searchEngines) {
+            searchEngine.clearHistory();
+        }
+    }
+
+    // All threads probe the same memory-mapped tablebase.
+    public void setTablebase(EndgameTablebase tablebase) {
+        for (SearchEngine searchEngine : searchEngines) {
+            searchEngine.setTablebase(tablebase);
+        }
+    }
+
+    public int getThreadCount() {
+        return searchEngines.length;
+    }
+
+    public void shutdown() {
+        if (executorService != null && isExecutorOwned) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private SearchResult getHelperResult(Future<SearchResult> helperResult) {
+        try {
+            return helperResult.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a search helper", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A search helper failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package checkers.core.engine;
+
+import checkers.core.board.BoardGeometry;
+import checkers.core.board.Move;
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
+import checkers.core.logic.MoveGenerator;
+
+/**
+ * Scores a position by its material, kings, back row guards, centre control, mobility and tempo.
+ *
+ * All terms except the mobility only depend on single pieces, so they are combined into one value for every
+ * colour, king status and square. The piece score of a position is the sum of these values, which the search
+ * updates with a few additions per move. The mobility is the difference between the steps and jumps of both sides,
+ * which are counted on the bitboards of the position without generating any moves. The difference does not depend
+ * on whose turn it is, so lines of odd and even length are scored alike.
+ */
+public class PositionalEvaluation implements Evaluation {
+
+    private static final int RED_MAN = 0;
+    private static final int RED_KING = 1;
+    private static final int BLACK_MAN = 2;
+    private static final int BLACK_KING = 3;
+
+    private final EvaluationWeights weights;
+    // The values of the pieces from the view of red, indexed by piece type and square.
+    private final int[][] standardValues;
+    private final int[][] internationalValues;
+
+    public PositionalEvaluation(EvaluationWeights weights) {
+        this.weights = weights;
+        this.standardValues = createPieceValues(BoardGeometry.STANDARD, weights);
+        this.internationalValues = createPieceValues(BoardGeometry.INTERNATIONAL, weights);
+    }
+
+    private static int[][] createPieceValues(BoardGeometry geometry, EvaluationWeights weights) {
+        int boardSize = geometry.getBoardSize();
+        int[][] values = new int[BLACK_KING + 1][geometry.getSquareCount()];
+        for (int square = 0; square < geometry.getSquareCount(); square++) {
+            int row = geometry.toRow(square);
+            int col = geometry.toCol(square);
+            boolean isCentre = row >= boardSize / 2 - 1 && row <= boardSize / 2 && col >= 2 && col < boardSize - 2;
+            int centre = isCentre ? weights.getCentre() : 0;
+            // Red starts at the top of the board, so its men advance with the row and guard the first row.
+            int blackRow = boardSize - 1 - row;
+            values[RED_MAN][square] = weights.getMan() + centre + weights.getTempo() * row
+                    + (row == 0 ? weights.getBackRankGuard() : 0);
+            values[BLACK_MAN][square] = -(weights.getMan() + centre + weights.getTempo() * blackRow
+                    + (blackRow == 0 ? weights.getBackRankGuard() : 0));
+            values[RED_KING][square] = weights.getKing() + centre;
+            values[BLACK_KING][square] = -(weights.getKing() + centre);
+        }
+        return values;
+    }
+
+    public EvaluationWeights getWeights() {
+        return weights;
+    }
+
+    // Sums the values of all pieces, the search uses the faster evaluate method with its own piece score instead.
+    @Override
+    public int evaluate(Position position) {
+        return evaluate(position, getPieceScore(position));
+    }
+
+    @Override
+    public int evaluate(Position position, int pieceScore) {
+        PieceColor sideToMove = position.getSideToMove();
+        int score = sideToMove == PieceColor.RED ? pieceScore : -pieceScore;
+        if (weights.getMobility() == 0) {
+            return score;
+        }
+        int mobility = countMobility(position, sideToMove) - countMobility(position, MoveGenerator.opposite(sideToMove));
+        return score + weights.getMobility() * mobility;
+    }
+
+    /**
+     * Counts the steps of the pieces onto empty neighbours and their jumps over a neighbouring piece of the opponent
+     * onto an empty square. The compulsory captures, the further jumps of a capture and the long moves of the kings
+     * of the 10x10 board are left out, so the count is an estimate of the legal moves that never generates a move.
+     */
+    private static int countMobility(Position position, PieceColor color) {
+        BoardGeometry geometry = position.getGeometry();
+        long pieces = position.getPieces(color);
+        long kingPieces = pieces & position.getKingPieces();
+        long opponentPieces = position.getPieces(MoveGenerator.opposite(color));
+        long emptySquares = position.getEmptySquares();
+        // Red men move down the board and black men move up, on the 10x10 board men also capture backwards.
+        int firstForward = color == PieceColor.RED ? BoardGeometry.DOWN_LEFT : BoardGeometry.UP_LEFT;
+        boolean canManCaptureBackwards = geometry.hasInternationalRules();
+        int mobility = 0;
+        for (int direction = 0; direction < BoardGeometry.DIRECTION_COUNT; direction++) {
+            boolean isForward = direction == firstForward || direction == firstForward + 1;
+            long steppingPieces = isForward ? pieces : kingPieces;
+            long jumpingPieces = isForward || canManCaptureBackwards ? pieces : kingPieces;
+            mobility += Long.bitCount(geometry.getNeighbours(direction, steppingPieces) & emptySquares);
+            long jumpedPieces = geometry.getNeighbours(direction, jumpingPieces) & opponentPieces;
+            mobility += Long.bitCount(geometry.getNeighbours(direction, jumpedPieces) & emptySquares);
+        }
+        return mobility;
+    }
+
+    @Override
+    public int getPieceScore(Position position) {
+        int[][] values = getValues(position);
+        long kingPieces = position.getKingPieces();
+        return sumValues(values[RED_MAN], position.getRedPieces() & ~kingPieces)
+                + sumValues(values[RED_KING], position.getRedPieces() & kingPieces)
+                + sumValues(values[BLACK_MAN], position.getBlackPieces() & ~kingPieces)
+                + sumValues(values[BLACK_KING], position.getBlackPieces() & kingPieces);
+    }
+
+    @Override
+    public int getMoveDelta(Position position, long move) {
+        int[][] values = getValues(position);
+        int from = Move.getFrom(move);
+        boolean wasKing = position.isKing(from);
+        int man = position.getSideToMove() == PieceColor.RED ? RED_MAN : BLACK_MAN;
+        int delta = values[wasKing || Move.isPromotion(move) ? man + 1 : man][Move.getTo(move)] - values[wasKing ? man + 1 : man][from];
+        long capturedPieces = Move.getCapturedPieces(move);
+        if (capturedPieces != 0) {
+            int opponentMan = BLACK_MAN - man;
+            long kingPieces = position.getKingPieces();
+            delta -= sumValues(values[opponentMan], capturedPieces & ~kingPieces) + sumValues(values[opponentMan + 1], capturedPieces & kingPieces);
+        }
+        return delta;
+    }
+
+    private int[][] getValues(Position position) {
+        return position.getGeometry() == BoardGeometry.STANDARD ? standardValues : internationalValues;
+    }
+
+    private static int sumValues(int[] values, long pieces) {
+        int sum = 0;
+        while (pieces != 0) {
+            sum += values[Long.numberOfTrailingZeros(pieces)];
+            pieces &= pieces - 1;
+        }
+        return sum;
+    }
+}
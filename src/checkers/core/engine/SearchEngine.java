@@ -0,0 +1,459 @@
+package checkers.core.engine;
+
+import checkers.core.board.Move;
+import checkers.core.board.Position;
+import checkers.core.logic.MoveGenerator;
+import checkers.core.logic.MoveList;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Searches for the best move of a position with a negamax search and alpha-beta pruning.
+ * The positions at the end of the search are scored by a pluggable {@link Evaluation},
+ * whose piece score is updated with every move instead of being computed again at the end.
+ *
+ * The search plays and takes back the moves on one copy of the position, so apart from that copy
+ * it does not create any objects while it is running. Results of positions that were already searched
+ * are taken from a {@link TranspositionTable}, so positions reached by different move orders are searched only once.
+ * With an {@link EndgameTablebase}, positions that are reached by captures are scored by their perfect result.
+ *
+ * Alpha-beta prunes the most when the best move is searched first, so the moves of a position are tried in this order:
+ * the move stored in the table, the captures of the most pieces, the two killer moves of the ply, which refuted
+ * other moves at the same ply, and then all other moves by their history score, which grows with every cutoff they cause.
+ *
+ * A position at the end of the search in which the side to move has to capture is not scored yet, because the
+ * exchange would change the material right after it. A quiescence search plays all captures instead until
+ * a position without a capture is reached, which the evaluation can judge correctly.
+ */
+public class SearchEngine {
+
+    public static final int MAX_PLY = 64;
+    public static final int WIN_SCORE = 30000;
+    public static final long NO_TIME_LIMIT = -1L;
+    private static final int INFINITY = WIN_SCORE + 1;
+    // Scores above this value are wins in a known number of moves.
+    private static final int WIN_THRESHOLD = WIN_SCORE - MAX_PLY;
+    // The clock is read once every 1024 nodes, which is often enough and costs almost nothing.
+    private static final int TIME_CHECK_INTERVAL = 1023;
+    // Won tablebase positions score below the wins found by the search, which end the game in a known number of moves.
+    private static final int TABLEBASE_WIN_SCORE = WIN_THRESHOLD / 2;
+    private static final int KILLER_SLOTS = 2;
+    private static final int INITIAL_MOVE_ORDERS = 64;
+    // The start and destination squares are the lowest 12 bits of a move.
+    private static final int HISTORY_MASK = 0xFFF;
+    // Halving all history scores from time to time keeps them from overflowing and lets old cutoffs fade out.
+    private static final int MAX_HISTORY_SCORE = 1 << 20;
+    private static final int HASH_MOVE_ORDER = Integer.MAX_VALUE;
+    private static final int CAPTURE_ORDER = 1 << 26;
+    private static final int KILLER_ORDER = 1 << 25;
+
+    private final Evaluation evaluation;
+    private final TranspositionTable transpositionTable;
+    private final TableEntry tableEntry;
+    // One list per ply, so that the search does not create new lists while it is running.
+    private final MoveList[] moveLists;
+    // The piece score of the evaluation for the position at every ply of the current line.
+    private final int[] pieceScores;
+    private final int[][] moveOrders;
+    private final long[][] killerMoves;
+    private final int[] historyScores;
+    private Position position;
+    private long nodes;
+    private long deadline;
+    private int completedDepth;
+    private boolean isStopped;
+    private volatile boolean isStopRequested;
+    private long rootBestMove;
+    private long cutoffs;
+    private long firstMoveCutoffs;
+    private long quiescenceNodes;
+    private int selectiveDepth;
+    private EndgameTablebase tablebase;
+    private int rootPieceCount;
+
+    public SearchEngine(Evaluation evaluation, TranspositionTable transpositionTable) {
+        this.evaluation = evaluation;
+        this.transpositionTable = transpositionTable;
+        this.tableEntry = new TableEntry();
+        this.moveLists = new MoveList[MAX_PLY + 1];
+        for (int ply = 0; ply <= MAX_PLY; ply++) {
+            moveLists[ply] = new MoveList();
+        }
+        this.pieceScores = new int[MAX_PLY + 1];
+        this.moveOrders = new int[MAX_PLY + 1][];
+        for (int ply = 0; ply <= MAX_PLY; ply++) {
+            moveOrders[ply] = new int[INITIAL_MOVE_ORDERS];
+        }
+        this.killerMoves = new long[MAX_PLY + 1][KILLER_SLOTS];
+        this.historyScores = new int[HISTORY_MASK + 1];
+    }
+
+    // Searches the best move for the side to move of the given position, which is not changed by the search.
+    public SearchResult search(Position rootPosition, int depth) {
+        return search(rootPosition, depth, NO_TIME_LIMIT);
+    }
+
+    /**
+     * Searches one ply deeper after every completed depth, until the maximum depth is reached
+     * or the time budget is used up. The result is always the best move of the last completed depth,
+     * so a search that is stopped in the middle of a depth loses only the work of that depth.
+     */
+    public SearchResult search(Position rootPosition, int maxDepth, long timeMillis) {
+        isStopRequested = false;
+        transpositionTable.newSearch();
+        return iterate(rootPosition, maxDepth, timeMillis, 1);
+    }
+
+    // Asks a running search to stop as soon as possible. It then returns the best move of its last completed depth.
+    public void stop() {
+        isStopRequested = true;
+    }
+
+    public void setTablebase(EndgameTablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    void clearHistory() {
+        Arrays.fill(historyScores, 0);
+    }
+
+    void resetStop() {
+        isStopRequested = false;
+    }
+
+    // The ParallelSearchEngine lets its helper threads start at different depths.
+    SearchResult iterate(Position rootPosition, int maxDepth, long timeMillis, int firstDepth) {
+        long startTime = System.nanoTime();
+        deadline = timeMillis == NO_TIME_LIMIT ? Long.MAX_VALUE : startTime + timeMillis * 1_000_000L;
+        position = rootPosition.copy();
+        pieceScores[0] = evaluation.getPieceScore(position);
+        nodes = 0;
+        cutoffs = 0;
+        firstMoveCutoffs = 0;
+        quiescenceNodes = 0;
+        selectiveDepth = 0;
+        for (long[] killers : killerMoves) {
+            Arrays.fill(killers, Move.NONE);
+        }
+        ageHistoryScores();
+        completedDepth = 0;
+        isStopped = false;
+        MoveList moves = moveLists[0];
+        MoveGenerator.generateMoves(position, moves);
+        rootPieceCount = position.getPieceCount();
+        if (tablebase != null && rootPieceCount <= tablebase.getMaxPieces()) {
+            keepTablebaseMoves(moves);
+        }
+        if (moves.isEmpty()) {
+            return new SearchResult(Move.NONE, -WIN_SCORE, 0, nodes, System.nanoTime() - startTime);
+        }
+        // There is nothing to think about, so the time is better saved for the next move.
+        if (moves.size() == 1 && timeMillis != NO_TIME_LIMIT) {
+            return new SearchResult(moves.get(0), 0, 0, nodes, System.nanoTime() - startTime);
+        }
+        long bestMove = moves.get(0);
+        int bestScore = -INFINITY;
+        for (int depth = Math.min(firstDepth, maxDepth); depth <= maxDepth; depth++) {
+            int score = searchRoot(moves, depth, bestMove);
+            if (isStopped) {
+                break;
+            }
+            bestMove = rootBestMove;
+            bestScore = score;
+            completedDepth = depth;
+            // A forced win or loss does not change anymore with a deeper search.
+            if (Math.abs(score) > WIN_THRESHOLD) {
+                break;
+            }
+        }
+        return new SearchResult(bestMove, bestScore, completedDepth, nodes, System.nanoTime() - startTime, cutoffs, firstMoveCutoffs,
+                quiescenceNodes, selectiveDepth);
+    }
+
+    /**
+     * Keeps only the root moves that lead to the best result of the tablebase. The tablebase is not probed
+     * in the search of a position that has the same number of pieces, because every move would get the same score.
+     * The search then finds the way to convert the win among the remaining moves.
+     */
+    private void keepTablebaseMoves(MoveList moves) {
+        int[] ranks = new int[moves.size()];
+        int bestRank = -1;
+        for (int i = 0; i < moves.size(); i++) {
+            position.makeMove(moves.get(i));
+            Optional<TablebaseResult> result = tablebase.probe(position);
+            position.unmakeMove();
+            if (!result.isPresent()) {
+                return;
+            }
+            // The result belongs to the opponent, so its loss is the best move.
+            ranks[i] = result.get() == TablebaseResult.LOSS ? 2 : result.get() == TablebaseResult.DRAW ? 1 : 0;
+            bestRank = Math.max(bestRank, ranks[i]);
+        }
+        MoveList bestMoves = new MoveList();
+        for (int i = 0; i < moves.size(); i++) {
+            if (ranks[i] == bestRank) {
+                bestMoves.add(moves.get(i));
+            }
+        }
+        moves.clear();
+        for (int i = 0; i < bestMoves.size(); i++) {
+            moves.add(bestMoves.get(i));
+        }
+    }
+
+    // Searches the best move of the last completed depth first, because it is most likely the best one again.
+    private int searchRoot(MoveList moves, int depth, long previousBestMove) {
+        int bestScore = -INFINITY;
+        int alpha = -INFINITY;
+        rootBestMove = Move.NONE;
+        for (int i = -1; i < moves.size(); i++) {
+            long move = i < 0 ? previousBestMove : moves.get(i);
+            if (i >= 0 && move == previousBestMove) {
+                continue;
+            }
+            pieceScores[1] = pieceScores[0] + evaluation.getMoveDelta(position, move);
+            position.makeMove(move);
+            int score = -negamax(depth - 1, -INFINITY, -alpha, 1);
+            position.unmakeMove();
+            if (isStopped) {
+                return bestScore;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                rootBestMove = move;
+                alpha = Math.max(alpha, score);
+            }
+        }
+        return bestScore;
+    }
+
+    private int negamax(int depth, int alpha, int beta, int ply) {
+        nodes++;
+        if (checkStop()) {
+            return 0;
+        }
+        Optional<TablebaseResult> result = probeTablebase();
+        if (result.isPresent()) {
+            return getTablebaseScore(result.get(), ply);
+        }
+        long hash = position.getHash();
+        boolean isTableHit = transpositionTable.probe(hash, tableEntry);
+        // A stored move is searched first even if it was searched too shallow to take the score.
+        long hashMove = isTableHit ? tableEntry.getMove() : Move.NONE;
+        if (isTableHit && tableEntry.getDepth() >= depth) {
+            int tableScore = fromTableScore(tableEntry.getScore(), ply);
+            int bound = tableEntry.getBound();
+            if (bound == TranspositionTable.EXACT
+                    || (bound == TranspositionTable.LOWER_BOUND && tableScore >= beta)
+                    || (bound == TranspositionTable.UPPER_BOUND && tableScore <= alpha)) {
+                return tableScore;
+            }
+        }
+        MoveList moves = moveLists[ply];
+        MoveGenerator.generateMoves(position, moves);
+        // A side that cannot move anymore has lost. Earlier wins are scored higher than later ones.
+        if (moves.isEmpty()) {
+            return -WIN_SCORE + ply;
+        }
+        if (depth <= 0 || ply >= MAX_PLY) {
+            // Generated captures are the only legal moves, so the first move tells if the side to move has to capture.
+            if (ply < MAX_PLY && Move.isCapture(moves.get(0))) {
+                return searchCaptures(moves, alpha, beta, ply);
+            }
+            return evaluation.evaluate(position, pieceScores[ply]);
+        }
+        int originalAlpha = alpha;
+        int bestScore = -INFINITY;
+        long bestMove = Move.NONE;
+        scoreMoves(moves, ply, hashMove);
+        for (int i = 0; i < moves.size(); i++) {
+            long move = selectMove(moves, ply, i);
+            pieceScores[ply + 1] = pieceScores[ply] + evaluation.getMoveDelta(position, move);
+            position.makeMove(move);
+            int score = -negamax(depth - 1, -beta, -alpha, ply + 1);
+            position.unmakeMove();
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                }
+                if (score >= beta) {
+                    if (!isStopped) {
+                        recordCutoff(move, i, depth, ply);
+                    }
+                    break;
+                }
+            }
+        }
+        // The scores of a stopped search are incomplete and must not end up in the table.
+        if (isStopped) {
+            return 0;
+        }
+        int bound = bestScore <= originalAlpha ? TranspositionTable.UPPER_BOUND
+                : bestScore >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+        transpositionTable.store(hash, bestMove, toTableScore(bestScore, ply), depth, bound);
+        return bestScore;
+    }
+
+    // Searches a position behind the end of the search, in which only the captures are played.
+    private int quiesce(int alpha, int beta, int ply) {
+        nodes++;
+        quiescenceNodes++;
+        selectiveDepth = Math.max(selectiveDepth, ply);
+        if (checkStop()) {
+            return 0;
+        }
+        Optional<TablebaseResult> result = probeTablebase();
+        if (result.isPresent()) {
+            return getTablebaseScore(result.get(), ply);
+        }
+        MoveList moves = moveLists[ply];
+        MoveGenerator.generateMoves(position, moves);
+        if (moves.isEmpty()) {
+            return -WIN_SCORE + ply;
+        }
+        if (ply >= MAX_PLY || !Move.isCapture(moves.get(0))) {
+            return evaluation.evaluate(position, pieceScores[ply]);
+        }
+        return searchCaptures(moves, alpha, beta, ply);
+    }
+
+    // The side to move cannot decline a capture, so unlike in chess there is no standing pat and every capture is searched.
+    // The results stay out of the table and the move ordering, which only hold the results of the full search.
+    private int searchCaptures(MoveList moves, int alpha, int beta, int ply) {
+        int bestScore = -INFINITY;
+        scoreMoves(moves, ply, Move.NONE);
+        for (int i = 0; i < moves.size(); i++) {
+            long move = selectMove(moves, ply, i);
+            pieceScores[ply + 1] = pieceScores[ply] + evaluation.getMoveDelta(position, move);
+            position.makeMove(move);
+            int score = -quiesce(-beta, -alpha, ply + 1);
+            position.unmakeMove();
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                }
+                if (score >= beta) {
+                    break;
+                }
+            }
+        }
+        return bestScore;
+    }
+
+    // The first depth is always completed when the time is up, so that there is a move to play.
+    // An interrupted thread stops at once, because a stop that was asked for before the search started is lost.
+    private boolean checkStop() {
+        if ((nodes & TIME_CHECK_INTERVAL) == 0 && (isStopRequested || Thread.currentThread().isInterrupted()
+                || (completedDepth > 0 && System.nanoTime() > deadline))) {
+            isStopped = true;
+        }
+        return isStopped;
+    }
+
+    private Optional<TablebaseResult> probeTablebase() {
+        int pieceCount = position.getPieceCount();
+        if (tablebase != null && pieceCount < rootPieceCount && pieceCount <= tablebase.getMaxPieces()) {
+            return tablebase.probe(position);
+        }
+        return Optional.empty();
+    }
+
+    // Gives every move a number, the higher the number the earlier the move is searched.
+    private void scoreMoves(MoveList moves, int ply, long hashMove) {
+        if (moveOrders[ply].length < moves.size()) {
+            moveOrders[ply] = new int[moves.size() * 2];
+        }
+        int[] orders = moveOrders[ply];
+        long[] killers = killerMoves[ply];
+        for (int i = 0; i < moves.size(); i++) {
+            long move = moves.get(i);
+            if (move == hashMove) {
+                orders[i] = HASH_MOVE_ORDER;
+            } else if (Move.isCapture(move)) {
+                orders[i] = CAPTURE_ORDER + (Long.bitCount(Move.getCapturedPieces(move)) << 21) + historyScores[(int) move & HISTORY_MASK];
+            } else if (move == killers[0]) {
+                orders[i] = KILLER_ORDER + 1;
+            } else if (move == killers[1]) {
+                orders[i] = KILLER_ORDER;
+            } else {
+                orders[i] = historyScores[(int) move & HISTORY_MASK];
+            }
+        }
+    }
+
+    // Moves the best of the remaining moves to the given index. Most cutoffs happen after the first few moves,
+    // so picking the moves one by one is cheaper than sorting the whole list.
+    private long selectMove(MoveList moves, int ply, int index) {
+        int[] orders = moveOrders[ply];
+        int bestIndex = index;
+        for (int i = index + 1; i < moves.size(); i++) {
+            if (orders[i] > orders[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+        if (bestIndex != index) {
+            moves.swap(index, bestIndex);
+            int order = orders[index];
+            orders[index] = orders[bestIndex];
+            orders[bestIndex] = order;
+        }
+        return moves.get(index);
+    }
+
+    private void recordCutoff(long move, int moveNumber, int depth, int ply) {
+        cutoffs++;
+        if (moveNumber == 0) {
+            firstMoveCutoffs++;
+        }
+        // Captures are mandatory, so they are always searched anyway and only the steps are remembered as killers.
+        if (!Move.isCapture(move) && killerMoves[ply][0] != move) {
+            killerMoves[ply][1] = killerMoves[ply][0];
+            killerMoves[ply][0] = move;
+        }
+        int historyIndex = (int) move & HISTORY_MASK;
+        historyScores[historyIndex] += depth * depth;
+        if (historyScores[historyIndex] > MAX_HISTORY_SCORE) {
+            ageHistoryScores();
+        }
+    }
+
+    private void ageHistoryScores() {
+        for (int i = 0; i < historyScores.length; i++) {
+            historyScores[i] /= 2;
+        }
+    }
+
+    // The evaluation still prefers the conversions into won endgames that keep more material.
+    private int getTablebaseScore(TablebaseResult result, int ply) {
+        if (result == TablebaseResult.DRAW) {
+            return 0;
+        }
+        int score = evaluation.evaluate(position, pieceScores[ply]);
+        return result == TablebaseResult.WIN ? TABLEBASE_WIN_SCORE + score : -TABLEBASE_WIN_SCORE + score;
+    }
+
+    // Wins are stored relative to the position in the table, because the same position can be reached at other plies.
+    private static int toTableScore(int score, int ply) {
+        if (score > WIN_THRESHOLD) {
+            return score + ply;
+        }
+        if (score < -WIN_THRESHOLD) {
+            return score - ply;
+        }
+        return score;
+    }
+
+    private static int fromTableScore(int score, int ply) {
+        if (score > WIN_THRESHOLD) {
+            return score - ply;
+        }
+        if (score < -WIN_THRESHOLD) {
+            return score + ply;
+        }
+        return score;
+    }
+}
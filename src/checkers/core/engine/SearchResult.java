@@ -0,0 +1,97 @@
+package checkers.core.engine;
+
+import checkers.core.board.Move;
+
+/**
+ * Holds the outcome of a search of the {@link SearchEngine} together with the effort it took.
+ */
+public class SearchResult {
+
+    private final long bestMove;
+    private final int score;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedNanos;
+    private final long cutoffs;
+    private final long firstMoveCutoffs;
+    private final long quiescenceNodes;
+    private final int selectiveDepth;
+
+    public SearchResult(long bestMove, int score, int depth, long nodes, long elapsedNanos) {
+        this(bestMove, score, depth, nodes, elapsedNanos, 0, 0, 0, 0);
+    }
+
+    public SearchResult(long bestMove, int score, int depth, long nodes, long elapsedNanos, long cutoffs, long firstMoveCutoffs,
+            long quiescenceNodes, int selectiveDepth) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+        this.cutoffs = cutoffs;
+        this.firstMoveCutoffs = firstMoveCutoffs;
+        this.quiescenceNodes = quiescenceNodes;
+        this.selectiveDepth = selectiveDepth;
+    }
+
+    // Is Move.NONE if the searching side has no legal move.
+    public long getBestMove() {
+        return bestMove;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedNanos / 1_000_000;
+    }
+
+    public long getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000L / elapsedNanos;
+    }
+
+    // The nodes include the quiescence nodes, which were searched behind the depth to resolve pending captures.
+    public long getQuiescenceNodes() {
+        return quiescenceNodes;
+    }
+
+    // The deepest ply that the quiescence search reached.
+    public int getSelectiveDepth() {
+        return Math.max(depth, selectiveDepth);
+    }
+
+    // The number of positions in which a move scored at least beta, so that the remaining moves were skipped.
+    public long getCutoffs() {
+        return cutoffs;
+    }
+
+    public long getFirstMoveCutoffs() {
+        return firstMoveCutoffs;
+    }
+
+    // How often the first searched move already caused the cutoff, the closer to 1 the better the move ordering.
+    public double getFirstMoveCutoffRate() {
+        return cutoffs == 0 ? 0 : (double) firstMoveCutoffs / cutoffs;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchResult{" + "bestMove: " + Move.toString(bestMove) + ", score: " + score + ", depth: " + depth
+                + "/" + getSelectiveDepth() + ", nodes: " + nodes + " (" + quiescenceNodes + " quiescence)"
+                + ", time: " + getElapsedMillis() + " ms" + ", nps: " + getNodesPerSecond()
+                + ", first move cutoffs: " + String.format("%.1f%%", getFirstMoveCutoffRate() * 100) + '}';
+    }
+}
@@ -0,0 +1,36 @@
+package checkers.core.engine;
+
+/**
+ * Receives a result read from the {@link TranspositionTable}.
+ * Each search reuses one entry, so that probing the table does not create any objects.
+ */
+public class TableEntry {
+
+    private long move;
+    private int score;
+    private int depth;
+    private int bound;
+
+    void set(long move, int score, int depth, int bound) {
+        this.move = move;
+        this.score = score;
+        this.depth = depth;
+        this.bound = bound;
+    }
+
+    public long getMove() {
+        return move;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getBound() {
+        return bound;
+    }
+}
@@ -0,0 +1,235 @@
+package checkers.core.engine;
+
+import checkers.core.board.BoardGeometry;
+import checkers.core.board.Move;
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
+import checkers.core.logic.MoveGenerator;
+import checkers.core.logic.MoveList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Generates the tables of the {@link EndgameTablebase} by retrograde analysis.
+ *
+ * The tables are generated from few to many pieces, so that every capture and every crowning leads into a table
+ * that is already finished. One pass over all positions generates their moves once: moves into finished tables
+ * are probed right away, and the steps that stay in the table are only counted. A side that cannot move has lost.
+ * From then on the results are spread backwards: for every newly solved position the steps that lead to it
+ * are taken back, which gives its predecessors in the table. A predecessor is won as soon as one step leads to
+ * a lost position, and lost when the count of its unsolved steps drops to zero and none of its moves draws.
+ * When a round solves no new position, all positions that are still open are draws.
+ * The moves come from the {@link MoveGenerator}, so the tables follow exactly the rules of the game.
+ */
+public class TablebaseGenerator {
+
+    private static final byte UNKNOWN = 3;
+    private static final int RESULT_MASK = 3;
+    // Marks the positions that were solved in the previous round and the current round of the backwards search.
+    private static final int SOLVED_FLAGS = 0x0C;
+    private static final int FIRST_SOLVED_FLAG = 0x04;
+    // Added to the count of steps of a position that has a drawing move into a finished table, it can never be lost.
+    private static final int CANNOT_LOSE = 64;
+
+    private final Path directory;
+    private final EndgameTablebase tablebase;
+    private final Position position;
+    private final Position predecessor;
+    private final MoveList moves;
+
+    public TablebaseGenerator(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.tablebase = new EndgameTablebase(directory);
+        this.position = new Position();
+        this.predecessor = new Position();
+        this.moves = new MoveList();
+    }
+
+    public void generate(int maxPieces) throws IOException {
+        for (MaterialSignature signature : MaterialSignature.enumerate(maxPieces)) {
+            generate(signature);
+        }
+    }
+
+    /**
+     * Generates the table of one signature and returns its file. The tables of all signatures that can be reached by
+     * a capture or a crowning must exist. A table that already exists is kept, so an interrupted run can be continued.
+     */
+    public Path generate(MaterialSignature signature) throws IOException {
+        Path file = directory.resolve(signature.getFileName());
+        if (tablebase.contains(signature)) {
+            return file;
+        }
+        if (signature.getPositionCount() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The table of " + signature + " is too large to be generated");
+        }
+        byte[] results = solve(signature);
+        // The table is written under another name first, so that a file with the right name is always complete.
+        Path temporaryFile = directory.resolve(signature.getFileName() + ".tmp");
+        write(signature, results, temporaryFile);
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        tablebase.load(file);
+        return file;
+    }
+
+    public EndgameTablebase getTablebase() {
+        return tablebase;
+    }
+
+    private byte[] solve(MaterialSignature signature) {
+        int positionCount = (int) signature.getPositionCount();
+        byte[] results = new byte[positionCount];
+        // The number of steps of every open position that lead to positions of the table that are not solved yet.
+        byte[] openSteps = new byte[positionCount];
+        boolean isSolved = false;
+        for (int index = 0; index < positionCount; index++) {
+            // Positions with two pieces on one square are never probed, they are simply stored as draws.
+            if (!signature.setPosition(index, position)) {
+                results[index] = (byte) TablebaseResult.DRAW.getCode();
+                continue;
+            }
+            results[index] = (byte) solvePosition(openSteps, index);
+            if (results[index] != UNKNOWN && results[index] != TablebaseResult.DRAW.getCode()) {
+                results[index] |= FIRST_SOLVED_FLAG;
+                isSolved = true;
+            }
+        }
+        for (int solvedFlag = FIRST_SOLVED_FLAG; isSolved; solvedFlag = SOLVED_FLAGS - solvedFlag) {
+            isSolved = false;
+            for (int index = 0; index < positionCount; index++) {
+                if ((results[index] & solvedFlag) != 0) {
+                    results[index] &= RESULT_MASK;
+                    signature.setPosition(index, position);
+                    boolean isLost = results[index] == TablebaseResult.LOSS.getCode();
+                    isSolved |= solvePredecessors(signature, isLost, results, openSteps, SOLVED_FLAGS - solvedFlag);
+                }
+            }
+        }
+        for (int index = 0; index < positionCount; index++) {
+            if (results[index] == UNKNOWN) {
+                results[index] = (byte) TablebaseResult.DRAW.getCode();
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Solves the position as far as its moves into finished tables allow and counts its steps within the table.
+     * A position with a capture only has moves into finished tables, so it is always solved, a draw included.
+     */
+    private int solvePosition(byte[] openSteps, int index) {
+        MoveGenerator.generateMoves(position, moves);
+        if (moves.isEmpty()) {
+            return TablebaseResult.LOSS.getCode();
+        }
+        boolean isLost = true;
+        int stepCount = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            long move = moves.get(i);
+            // Only steps without crowning stay in the same table, all other moves lead into finished tables.
+            if (!Move.isCapture(move) && !Move.isPromotion(move)) {
+                stepCount++;
+                continue;
+            }
+            position.makeMove(move);
+            int result = probeFinishedTable();
+            position.unmakeMove();
+            if (result == TablebaseResult.LOSS.getCode()) {
+                return TablebaseResult.WIN.getCode();
+            }
+            if (result != TablebaseResult.WIN.getCode()) {
+                isLost = false;
+            }
+        }
+        if (stepCount == 0) {
+            return isLost ? TablebaseResult.LOSS.getCode() : TablebaseResult.DRAW.getCode();
+        }
+        openSteps[index] = (byte) (isLost ? stepCount : stepCount + CANNOT_LOSE);
+        return UNKNOWN;
+    }
+
+    /**
+     * Takes back every step of the opponent that leads to the solved position and updates the predecessors
+     * that are still open. Returns true if a predecessor was solved, it is marked with the given flag.
+     */
+    private boolean solvePredecessors(MaterialSignature signature, boolean isLost, byte[] results, byte[] openSteps,
+                                      int solvedFlag) {
+        PieceColor color = MoveGenerator.opposite(position.getSideToMove());
+        BoardGeometry geometry = position.getGeometry();
+        long kingPieces = position.getKingPieces();
+        long emptySquares = position.getEmptySquares();
+        boolean isSolved = false;
+        long pieces = position.getPieces(color);
+        while (pieces != 0) {
+            int square = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            boolean isKing = (kingPieces & (1L << square)) != 0;
+            for (int direction = 0; direction < BoardGeometry.DIRECTION_COUNT; direction++) {
+                // Red men move down, so they came from the squares above them, and black men the other way round.
+                boolean isUp = direction == BoardGeometry.UP_LEFT || direction == BoardGeometry.UP_RIGHT;
+                if (!isKing && isUp != (color == PieceColor.RED)) {
+                    continue;
+                }
+                int from = geometry.getNeighbour(direction, square);
+                if (from < 0 || (emptySquares & (1L << from)) == 0) {
+                    continue;
+                }
+                setPredecessor(color, square, from, isKing);
+                int index = (int) signature.getIndex(predecessor);
+                if (results[index] != UNKNOWN) {
+                    continue;
+                }
+                if (isLost) {
+                    results[index] = (byte) (TablebaseResult.WIN.getCode() | solvedFlag);
+                    isSolved = true;
+                } else if (--openSteps[index] == 0) {
+                    results[index] = (byte) (TablebaseResult.LOSS.getCode() | solvedFlag);
+                    isSolved = true;
+                }
+            }
+        }
+        return isSolved;
+    }
+
+    // The position before the given piece of the side that is not to move stepped from the given square to its square.
+    private void setPredecessor(PieceColor color, int square, int from, boolean isKing) {
+        long step = (1L << square) | (1L << from);
+        long redPieces = color == PieceColor.RED ? position.getRedPieces() ^ step : position.getRedPieces();
+        long blackPieces = color == PieceColor.BLACK ? position.getBlackPieces() ^ step : position.getBlackPieces();
+        long kingPieces = isKing ? position.getKingPieces() ^ step : position.getKingPieces();
+        predecessor.setPieces(redPieces, blackPieces, kingPieces, color);
+    }
+
+    private int probeFinishedTable() {
+        return tablebase.probe(position)
+                .orElseThrow(() -> new IllegalStateException("The table of " + MaterialSignature.of(position) + " has to be generated first"))
+                .getCode();
+    }
+
+    private static void write(MaterialSignature signature, byte[] results, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(EndgameTablebase.HEADER_BYTES);
+        header.putInt(EndgameTablebase.MAGIC).putInt(EndgameTablebase.VERSION)
+                .put((byte) signature.getRedMen()).put((byte) signature.getRedKings())
+                .put((byte) signature.getBlackMen()).put((byte) signature.getBlackKings())
+                .putLong(signature.getPositionCount());
+        header.flip();
+        byte[] packedResults = new byte[(results.length + 3) / 4];
+        for (int index = 0; index < results.length; index++) {
+            packedResults[index >>> 2] |= results[index] << ((index & 3) * 2);
+        }
+        ByteBuffer data = ByteBuffer.wrap(packedResults);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining() || data.hasRemaining()) {
+                channel.write(new ByteBuffer[]{header, data});
+            }
+        }
+    }
+}
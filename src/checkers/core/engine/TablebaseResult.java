@@ -0,0 +1,30 @@
+package checkers.core.engine;
+
+/**
+ * The perfect result of an endgame position from the view of the side to move, as stored in the {@link EndgameTablebase}.
+ */
+public enum TablebaseResult {
+    DRAW(0),
+    WIN(1),
+    LOSS(2);
+
+    private final int code;
+
+    TablebaseResult(int code) {
+        this.code = code;
+    }
+
+    // The two bits with which the result is stored in a table file.
+    public int getCode() {
+        return code;
+    }
+
+    public static TablebaseResult fromCode(int code) {
+        for (TablebaseResult result : values()) {
+            if (result.code == code) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Unknown tablebase result code: " + code);
+    }
+}
@@ -0,0 +1,89 @@
+package checkers.core.engine;
+
+import java.util.Arrays;
+
+/**
+ * Caches search results of the {@link SearchEngine} for positions, keyed by their Zobrist hash.
+ *
+ * The table has a fixed number of slots and every position can only be stored in one of them.
+ * A slot is replaced by a search of at least the same depth, or by any search once its own entry
+ * comes from an earlier search.
+ *
+ * Several search threads share one table without locks. Every slot stores its key XORed with its move and data,
+ * so an entry that was torn by two threads writing at the same time does not match its key anymore
+ * and is ignored like an empty slot.
+ */
+public class TranspositionTable {
+
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+    private static final int ENTRY_BYTES = 3 * Long.BYTES;
+    private static final int SCORE_OFFSET = 1 << 15;
+    private static final int DEPTH_SHIFT = 16;
+    private static final int BOUND_SHIFT = 24;
+    private static final int GENERATION_SHIFT = 26;
+    private static final int GENERATION_MASK = 0xFF;
+
+    private final long[] keys;
+    private final long[] moves;
+    private final long[] data;
+    private final int indexMask;
+    private int generation;
+
+    public TranspositionTable(int megabytes) {
+        long entryCount = Long.highestOneBit(Math.max(1L, megabytes * 1024L * 1024L / ENTRY_BYTES));
+        int size = (int) Math.min(entryCount, 1 << 30);
+        keys = new long[size];
+        moves = new long[size];
+        data = new long[size];
+        indexMask = size - 1;
+    }
+
+    // Marks the start of a new search, so that the entries of the earlier searches can be replaced.
+    public void newSearch() {
+        generation = (generation + 1) & GENERATION_MASK;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(moves, 0L);
+        Arrays.fill(data, 0L);
+    }
+
+    public int getSize() {
+        return keys.length;
+    }
+
+    // Copies the stored result of the position into the given entry, if the table contains one.
+    public boolean probe(long hash, TableEntry entry) {
+        int index = (int) hash & indexMask;
+        long entryData = data[index];
+        long entryMove = moves[index];
+        if (entryData == 0L || (keys[index] ^ entryMove ^ entryData) != hash) {
+            return false;
+        }
+        entry.set(entryMove, (int) (entryData & 0xFFFF) - SCORE_OFFSET, (int) ((entryData >>> DEPTH_SHIFT) & 0xFF),
+                (int) ((entryData >>> BOUND_SHIFT) & 0x3));
+        return true;
+    }
+
+    public void store(long hash, long move, int score, int depth, int bound) {
+        int index = (int) hash & indexMask;
+        long entryData = data[index];
+        if (entryData != 0L && (keys[index] ^ moves[index] ^ entryData) != hash) {
+            int storedDepth = (int) ((entryData >>> DEPTH_SHIFT) & 0xFF);
+            int storedGeneration = (int) ((entryData >>> GENERATION_SHIFT) & GENERATION_MASK);
+            if (storedGeneration == generation && storedDepth > depth) {
+                return;
+            }
+        }
+        long newData = (score + SCORE_OFFSET)
+                | ((long) Math.max(0, Math.min(depth, 0xFF)) << DEPTH_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | ((long) generation << GENERATION_SHIFT);
+        keys[index] = hash ^ move ^ newData;
+        moves[index] = move;
+        data[index] = newData;
+    }
+}
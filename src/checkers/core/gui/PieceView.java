@@ -0,0 +1,51 @@
+package checkers.core.gui;
+
+import checkers.core.board.Piece;
+import checkers.core.board.Piece.PieceColor;
+import checkers.hosting.interfaces.*;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+
+/**
+ * Shows a {@link Piece} of the board as a circle in the GUI section {@link SceneManager}.
+ */
+public class PieceView {
+
+    private static final double RADIUS = 30;
+
+    private final Piece piece;
+    private final Circle circle;
+
+    public PieceView(Piece piece, BaseDataService baseDataService) {
+        this.piece = piece;
+        this.circle = new Circle(RADIUS);
+        // The circle is placed in the centre of the square area,
+        // provided the size of the square is twice the size of the circle.
+        double squareWidth = baseDataService.getSquareSize();
+        double offset = (squareWidth - RADIUS * 2) / 2;
+        circle.setCenterX(offset + RADIUS);
+        circle.setCenterY(offset + RADIUS);
+        update();
+    }
+
+    public Piece getPiece() {
+        return piece;
+    }
+
+    public Circle getCircle() {
+        return circle;
+    }
+
+    // Shows a piece that has been crowned since the last update as king.
+    public void update() {
+        if (piece.isKing()) {
+            circle.setFill(piece.getColor() == PieceColor.RED ? Color.LIGHTCORAL : Color.DARKGRAY);
+        } else {
+            circle.setFill(piece.getColor() == PieceColor.RED ? Color.RED : Color.BLACK);
+        }
+    }
+
+    public void setSelected(boolean isSelected) {
+        circle.setStroke(isSelected ? Color.YELLOW : null);
+    }
+}
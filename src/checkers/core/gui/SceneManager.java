@@ -1,27 +1,35 @@
 package checkers.core.gui;
 
+import checkers.core.board.Move;
+import checkers.core.board.Piece;
+import checkers.core.board.Position;
 import checkers.core.logic.ComputerPlayer;
-import checkers.core.logic.MoveValidation;
+import checkers.core.logic.MoveGenerator;
+import checkers.core.logic.MoveList;
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.scene.Node;
 import javafx.scene.Scene;
-import javafx.scene.control.Button;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
-import checkers.core.gui.Piece.*;
+import checkers.core.board.Piece.*;
 import checkers.hosting.interfaces.*;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  *  Controls the user interface and the scenes of the game with his moves of the two players.
@@ -31,25 +39,53 @@ public class SceneManager implements SceneManagerService {
     private GridPane gridPane;
     private Scene scene;
     private Piece selectedPiece;
-    private Button button;
     private Text textMessageField;
     private FieldManagerService fieldManagerService;
     private BaseDataService baseDataService;
     private HumanPlayerService humanPlayerService;
     private ComputerPlayerService computerPlayerService;
+    private GameSessionService gameSessionService;
+    // The circles of the pieces on the board, the pieces of the model do not know how they are shown.
+    private Map<Piece, PieceView> pieceViews;
+    private Pane[][] squares;
+    // What the squares show since the last update, so that only the squares that have changed are drawn again.
+    private Piece[][] shownPieces;
+    private boolean[][] shownKings;
+    private boolean isGameOver;
+    // The human player moves first, the turn only changes when a move is finished.
+    private PieceColor sideToMove;
+    // The computer searches its moves in the background, so the window keeps responding while it thinks.
+    private ExecutorService computerMoveExecutor;
+    private boolean isComputerMoving;
+    // Counts the started computer moves, the result of a move that has been cancelled in the meantime is ignored.
+    private int computerMoveNumber;
+    private Future<?> computerMove;
 
     public SceneManager(HumanPlayerService humanPlayerService, ComputerPlayerService computerPlayerService,
-                        FieldManagerService fieldManagerService, BaseDataService baseDataService) {
+                        FieldManagerService fieldManagerService, BaseDataService baseDataService,
+                        GameSessionService gameSessionService) {
         this.humanPlayerService = humanPlayerService;
         this.computerPlayerService = computerPlayerService;
+        this.gameSessionService = gameSessionService;
         this.fieldManagerService = fieldManagerService;
         this.baseDataService = baseDataService;
+        this.pieceViews = new IdentityHashMap<>();
+        int boardSize = baseDataService.getSquareNumber();
+        this.shownPieces = new Piece[boardSize][boardSize];
+        this.shownKings = new boolean[boardSize][boardSize];
+        this.sideToMove = PieceColor.BLACK;
+        this.computerMoveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "computer-move");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
     public void initializeScene(Stage stage) {
         scene = createScene();
         stage.setScene(scene);
+        stage.setOnHidden(event -> closeGame());
         stage.show();
         updateBoardUI();
     }
@@ -57,7 +93,6 @@ public class SceneManager implements SceneManagerService {
     private Scene createScene() {
         createGridPane();
         VBox vBox = addVBox();
-        addButton(vBox);
         addTextMessageFeld(vBox);
         BorderPane borderPane = new BorderPane();
         borderPane.setCenter(gridPane);
@@ -66,16 +101,24 @@ public class SceneManager implements SceneManagerService {
         return scene;
     }
 
-    // Creates the different field colours on the board <b>without</b> the game pieces.
+    /**
+     * Creates the different field colours on the board <b>without</b> the game pieces.
+     * Every square gets its event listener once, it finds out on each click what the square shows at that moment.
+     */
     private void createGridPane() {
         gridPane = new GridPane();
         int boardSize = baseDataService.getSquareNumber();
         int squareSize = baseDataService.getSquareSize();
+        squares = new Pane[boardSize][boardSize];
         for (int row = 0; row < boardSize; row++) {
             for (int col = 0; col < boardSize; col++) {
                 Pane square = new Pane();
                 square.setPrefSize(squareSize, squareSize);
                 square.setStyle((row + col) % 2 == 0 ? "-fx-background-color: white;" : "-fx-background-color: green;");
+                final int currRow = row;
+                final int currCol = col;
+                square.setOnMouseClicked(event -> handleSquareClick(currRow, currCol));
+                squares[row][col] = square;
                 gridPane.add(square, col, row);
             }
         }
@@ -88,111 +131,73 @@ public class SceneManager implements SceneManagerService {
         return vbox;
     }
 
-    private void addButton(VBox vBox) {
-        button = new Button("Spielzug beenden");
-        button.setVisible(false);
-        button.setOnAction(event -> {
-            selectedPiece.getCircle().setStroke(null);
-            selectedPiece = null;
-            MoveValidation.setHasEaten(false);
-            button.setVisible(false);
-            textMessageField.setVisible(false);
-            updateBoardUI();
-            computerPlayerService.computerMove();
-            updateBoardUI();
-        });
-        vBox.getChildren().add(button);
-    }
-
     private void addTextMessageFeld(VBox vBox) {
-        textMessageField = new Text("Wenn du keinen Spielzug machen kannst, kannst du mit dem Button hier den Zug abgeben.");
+        textMessageField = new Text("");
         textMessageField.setFont(Font.font("Arial", FontWeight.BOLD, 16));
         textMessageField.setFill(Color.RED);
         textMessageField.setVisible(false);
         vBox.getChildren().add(textMessageField);
     }
 
+    /**
+     * Compares the board with what the squares show and only draws the squares again whose piece has moved,
+     * been captured or been crowned since the last update.
+     */
     @Override
     public void updateBoardUI() {
-        if (checkGameOver()) {
-            displayGameOverInformation();
-            for (int row = 0; row < baseDataService.getSquareNumber(); row++) {
-                for (int col = 0; col < baseDataService.getSquareNumber(); col++) {
-                    updateBoardSquareGameOver(col, row);
+        Map<Piece, PieceView> previousPieceViews = pieceViews;
+        pieceViews = new IdentityHashMap<>();
+        for (int row = 0; row < baseDataService.getSquareNumber(); row++) {
+            for (int col = 0; col < baseDataService.getSquareNumber(); col++) {
+                Piece piece = fieldManagerService.getBoardPiece(row, col).orElse(null);
+                if (piece != null) {
+                    PieceView pieceView = previousPieceViews.get(piece);
+                    pieceViews.put(piece, pieceView != null ? pieceView : new PieceView(piece, baseDataService));
                 }
-            }
-        } else {
-            for (int row = 0; row < baseDataService.getSquareNumber(); row++) {
-                for (int col = 0; col < baseDataService.getSquareNumber(); col++) {
-                    updateBoardSquare(col, row);
+                if (piece != shownPieces[row][col] || (piece != null && piece.isKing() != shownKings[row][col])) {
+                    updateBoardSquare(row, col, piece);
                 }
             }
         }
+        isGameOver = checkGameOver();
+        if (isGameOver) {
+            displayGameOverInformation();
+        }
     }
 
-    /**
-     * This method checks if there is a {@link Piece} at the given coordinates and draws a circle on
-     * the field, displaying the game piece on the board.
-     *
-     * Additionally, all empty fields are assigned an event listener that triggers the {@link #handleMoveClick} method,
-     * allowing the human player to make a move.
-     *
-     * All game pieces are assigned an event listener that changes the marking of the piece to yellow when clicked,
-     * indicating that it has been selected and can be used for a move.
-     */
-    private void updateBoardSquare(int col, int row) {
-        Optional<Piece> piece = fieldManagerService.getBoardPiece(row, col);
-        // Find the Pane in the GridPane for the current square.
-        Pane square = (Pane) gridPane.getChildren().get(row * baseDataService.getSquareNumber() + col);
-        square.requestLayout();
-        ObservableList<Node> squareChildren = square.getChildren();
-        if (piece.isPresent()) {
-            Circle circle = piece.get().getCircle();
-            circle.setOnMouseClicked(event ->
-                    handlePieceClick(piece.get())
-            );
-            // Add or update the Circle in the Pane.
-            if (squareChildren.isEmpty()) {
-                squareChildren.add(circle);
-            } else {
-                squareChildren.set(0, circle);
-            }
-        } else {
-            // If there is no piece on the square, remove any Circle from the Pane.
+    // Draws the circle of the piece on the square, or nothing if the square is empty.
+    private void updateBoardSquare(int row, int col, Piece piece) {
+        ObservableList<Node> squareChildren = squares[row][col].getChildren();
+        if (piece == null) {
             squareChildren.clear();
-            final int currRow = row;
-            final int currCol = col;
-            square.setOnMouseClicked(event ->
-                    handleMoveClick(currRow, currCol)
-            );
+        } else {
+            // A circle that is still shown on the square the piece came from is moved automatically.
+            squareChildren.setAll(getPieceView(piece).getCircle());
         }
+        shownPieces[row][col] = piece;
+        shownKings[row][col] = piece != null && piece.isKing();
     }
 
     /**
-     * Like {@link #updateBoardSquare}, but without the event listeners,
-     * because when the game is over, no piece should be selectable or movable.
+     * A click on a piece selects it, a click on an empty field triggers the {@link #handleMoveClick} method,
+     * allowing the human player to make a move. When the game is over or while the computer is moving,
+     * no piece should be selectable or movable.
      */
-    private void updateBoardSquareGameOver(int col, int row) {
+    private void handleSquareClick(int row, int col) {
+        if (isGameOver || isComputerMoving) {
+            return;
+        }
         Optional<Piece> piece = fieldManagerService.getBoardPiece(row, col);
-        Pane square = (Pane) gridPane.getChildren().get(row * baseDataService.getSquareNumber() + col);
-        square.requestLayout();
-        ObservableList<Node> squareChildren = square.getChildren();
         if (piece.isPresent()) {
-            Circle circle = piece.get().getCircle();
-            circle.setOnMouseClicked(null);
-            if (squareChildren.isEmpty()) {
-                squareChildren.add(circle);
-            } else {
-                squareChildren.set(0, circle);
-            }
+            handlePieceClick(piece.get());
         } else {
-            squareChildren.clear();
+            handleMoveClick(row, col);
         }
     }
 
     /**
-     * Case 1: On the first jump, the user has eaten. This leads to the user being able to make another move.
-     * Case 2: Nothing eaten on the first jump. A regular move has been made and it's the {@link ComputerPlayer}'s turn now.
+     * Case 1: The user has captured and has to capture again with the same piece, the turn goes on.
+     * Case 2: The move is finished, either a regular move or a capture that cannot be continued. It's the {@link ComputerPlayer}'s turn now.
      * Case default/0: No move has been made. Method aborts and player should click on another field. This case is
      * not noticeable to the user. Nothing will happen on the GUI side and the user can confidently select another field.
      */
@@ -200,42 +205,110 @@ public class SceneManager implements SceneManagerService {
         int move = humanPlayerService.handleMoveClick(currRow, currCol, Optional.ofNullable(selectedPiece));
         switch (move) {
             case 1:
-                button.setVisible(true);
-                textMessageField.setVisible(true);
                 updateBoardUI();
                 break;
             case 2:
                 // SelectedPiece can never be null here, because if it is null, we would get 0 from the
                 // handleMoveClick method which would lead to default case in here and not case 2.
-                selectedPiece.getCircle().setStroke(null);
+                getPieceView(selectedPiece).setSelected(false);
                 selectedPiece = null;
+                sideToMove = PieceColor.RED;
                 updateBoardUI();
-                button.setVisible(false);
-                textMessageField.setVisible(false);
-                computerPlayerService.computerMove();
-                updateBoardUI();
+                startComputerMove();
                 break;
             default:
         }
     }
 
+    /**
+     * Searches the move of the {@link ComputerPlayer} on a snapshot of the board in the background.
+     * The move is played on the JavaFX thread afterwards, because only that thread changes the board.
+     */
+    private void startComputerMove() {
+        if (isGameOver) {
+            return;
+        }
+        isComputerMoving = true;
+        int moveNumber = ++computerMoveNumber;
+        Position position = fieldManagerService.getPosition();
+        position.setSideToMove(PieceColor.RED);
+        computerMove = computerMoveExecutor.submit(() -> {
+            try {
+                long move = computerPlayerService.chooseMove(position);
+                Platform.runLater(() -> finishComputerMove(moveNumber, move));
+            } catch (RuntimeException e) {
+                Platform.runLater(() -> failComputerMove(moveNumber, e));
+            }
+        });
+    }
+
+    // Errors are shown like all other errors of the application, which happens on the JavaFX thread.
+    private void failComputerMove(int moveNumber, RuntimeException e) {
+        if (moveNumber != computerMoveNumber) {
+            return;
+        }
+        isComputerMoving = false;
+        throw e;
+    }
+
+    private void finishComputerMove(int moveNumber, long move) {
+        if (moveNumber != computerMoveNumber) {
+            return;
+        }
+        isComputerMoving = false;
+        // Without a move the computer keeps the turn, so the board update finds that it has lost.
+        if (move != Move.NONE) {
+            computerPlayerService.playMove(move);
+            sideToMove = PieceColor.BLACK;
+        }
+        updateBoardUI();
+    }
+
+    // Stops a running search, its move will not be played anymore. A search that has not started yet never starts,
+    // and one that is just starting sees the interrupt of its thread.
+    private void cancelComputerMove() {
+        if (isComputerMoving) {
+            computerMoveNumber++;
+            isComputerMoving = false;
+            computerMove.cancel(true);
+            computerPlayerService.stopSearch();
+        }
+    }
+
+    private void closeGame() {
+        cancelComputerMove();
+        computerMoveExecutor.shutdownNow();
+        computerPlayerService.shutdown();
+    }
+
     private void handlePieceClick(Piece piece) {
         // Check if the clicked piece belongs to the human player.
-        if (piece != null && piece.getColor() == PieceColor.BLACK && !MoveValidation.isHasEaten()) {
+        if (piece != null && piece.getColor() == PieceColor.BLACK && !gameSessionService.isHasEaten()) {
             // Unselect any previously selected piece.
             if (selectedPiece != null) {
-                selectedPiece.getCircle().setStroke(null);
+                getPieceView(selectedPiece).setSelected(false);
             }
             // Select the new piece.
             selectedPiece = piece;
-            selectedPiece.getCircle().setStroke(Color.YELLOW);
+            getPieceView(selectedPiece).setSelected(true);
         }
     }
 
+    // Also shows the crowning of a piece since the last update.
+    private PieceView getPieceView(Piece piece) {
+        PieceView pieceView = pieceViews.computeIfAbsent(piece, newPiece -> new PieceView(newPiece, baseDataService));
+        pieceView.update();
+        return pieceView;
+    }
+
+    // The side to move has lost when it has no legal move left, which is also the case when it has no pieces left.
+    @Override
     public boolean checkGameOver() {
-        boolean humanWon = checkIfHumanWon(fieldManagerService.getRedPieces());
-        boolean computerWon = checkIfComputerWon(fieldManagerService.getBlackPieces());
-        return humanWon || computerWon;
+        Position position = fieldManagerService.getPosition();
+        position.setSideToMove(sideToMove);
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(position, moves);
+        return moves.isEmpty();
     }
 
     @Override
@@ -249,16 +322,12 @@ public class SceneManager implements SceneManagerService {
     }
 
     private void displayGameOverInformation() {
-        boolean humanWon = checkIfHumanWon(fieldManagerService.getRedPieces());
-        boolean computerWon = checkIfComputerWon(fieldManagerService.getBlackPieces());
-        if (humanWon) {
+        if (sideToMove == PieceColor.RED) {
             this.textMessageField.setText("GAME OVER....YOU WON!!");
-            this.textMessageField.setVisible(true);
-            this.button.setVisible(false);
-        } else if (computerWon) {
+        } else {
             this.textMessageField.setText("GAME OVER....COMPUTER WON!!");
-            this.textMessageField.setVisible(true);
         }
+        this.textMessageField.setVisible(true);
     }
 
     @Override
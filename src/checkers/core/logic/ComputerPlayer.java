@@ -1,9 +1,22 @@
 package checkers.core.logic;
 
-import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
-import checkers.core.gui.Piece;
+import checkers.core.board.BoardGeometry;
+import checkers.core.board.Move;
+import checkers.core.board.Piece;
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
+import checkers.core.engine.ComputerStrategy;
+import checkers.core.engine.OpeningBook;
+import checkers.core.engine.ParallelSearchEngine;
+import checkers.core.engine.PositionalEvaluation;
+import checkers.core.engine.SearchResult;
+import checkers.core.engine.TranspositionTable;
 import checkers.hosting.interfaces.*;
 
 /**
@@ -11,112 +24,152 @@ import checkers.hosting.interfaces.*;
  */
 public class ComputerPlayer implements ComputerPlayerService {
 
+    private static final Logger LOGGER = Logger.getLogger(ComputerPlayer.class.getName());
     private FieldManagerService fieldManagerService;
     private BaseDataService baseDataService;
-    private static final int[][] COMPUTER_REGULAR_DIRECTIONS = {{1, -1}, {1, 1}};
-    private static final int[][] COMPUTER_REGULAR_EATING_DIRECTIONS = {{2, -2}, {2, 2}};
-    private static final int[][] COMPUTER_KING_DIRECTIONS = {{1, -1}, {1, 1}, {-1, -1}, {-1, 1}};
-    private static final int[][] COMPUTER_KING_EATING_DIRECTIONS = {{2, -2}, {2, 2}, {-2, -2}, {-2, 2}};
+    private BoardGeometry geometry;
+    private ComputerStrategy strategy;
+    private ParallelSearchEngine searchEngine;
+    private SearchResult lastSearchResult;
+    private MoveList moves;
+    private OpeningBook openingBook;
+    private Random random;
 
-    public ComputerPlayer(FieldManagerService fieldManagerService, BaseDataService baseDataService) {
+    public ComputerPlayer(FieldManagerService fieldManagerService, BaseDataService baseDataService,
+                          SearchResourcesService searchResourcesService) {
         this.fieldManagerService = fieldManagerService;
         this.baseDataService = baseDataService;
+        this.geometry = BoardGeometry.of(baseDataService.getSquareNumber());
+        this.strategy = baseDataService.getComputerStrategy();
+        // Only the transposition table and the move ordering of the search belong to this game.
+        this.searchEngine = new ParallelSearchEngine(new PositionalEvaluation(searchResourcesService.getEvaluationWeights()),
+                new TranspositionTable(baseDataService.getTranspositionTableMegabytes()), baseDataService.getSearchThreads(),
+                searchResourcesService.getSearchHelpers());
+        searchResourcesService.getTablebase().ifPresent(searchEngine::setTablebase);
+        this.openingBook = searchResourcesService.getOpeningBook().orElse(null);
+        this.moves = new MoveList();
+        this.random = new Random();
     }
 
     @Override
     public void computerMove() {
-        fieldManagerService.updateRedKingPieces();
-        List<Piece> redPieces = fieldManagerService.getRedPieces();
-        List<Piece> redKingPieces = fieldManagerService.getRedKingPieces();
-        int redPiecesSize = redPieces.size();
-        int redKingPiecesSize = redKingPieces.size();
-        if (eatingMove(redKingPieces, redKingPiecesSize, COMPUTER_KING_EATING_DIRECTIONS)) {
-            return;
+        long move = chooseMove(getComputerPosition());
+        if (move != Move.NONE) {
+            playMove(move);
         }
-        if (eatingMove(redPieces, redPiecesSize, COMPUTER_REGULAR_EATING_DIRECTIONS)) {
-            return;
-        }
-        if (regularMove(redPieces, redPiecesSize, COMPUTER_REGULAR_DIRECTIONS)) {
-            return;
-        }
-        regularMove(redKingPieces, redKingPiecesSize, COMPUTER_KING_DIRECTIONS);
     }
 
-    private boolean eatingMove(List<Piece> pieces, int piecesSize, int[][] computerDirection) {
-        for (int i = 0; i < piecesSize; i++) {
-            Piece redPiece = pieces.get(i);
-            int startRow = redPiece.getRow();
-            int startCol = redPiece.getCol();
-            for (int[] direction : computerDirection) {
-                int row = startRow + direction[0];
-                int col = startCol + direction[1];
-                boolean isOutOfBounds = isOutOfBounds(row, col);
-                if (!isOutOfBounds && MoveValidation.isValidMove(redPiece, row, col, this.fieldManagerService) && MoveValidation.isHasEaten()) {
-                    eatingProcess(redPiece, startRow, startCol, row, col, computerDirection);
-                    return true;
-                }
-            }
+    /**
+     * Chooses the move of the computer for a snapshot of the board without changing the board, so the move can be
+     * searched on another thread than the one that shows the board. Only one move is chosen at a time.
+     */
+    @Override
+    public long chooseMove(Position position) {
+        if (strategy == ComputerStrategy.ALPHA_BETA) {
+            return searchMove(position);
         }
-        return false;
+        return greedyMove(position);
     }
 
-    private void consecutiveEatingMove(Piece redPiece, int row, int col, int[][] computerDirection) {
-        if (MoveValidation.isHasEaten()) {
-            MoveValidation.setHasEaten(false);
-            for (int[] nextDirection : computerDirection) {
-                int nextRow = row + nextDirection[0];
-                int nextCol = col + nextDirection[1];
-                boolean isOutOfBounds = isOutOfBounds(nextRow, nextCol);
-                if (!isOutOfBounds && MoveValidation.isValidMove(redPiece, nextRow, nextCol, this.fieldManagerService) && MoveValidation.isHasEaten()) {
-                    eatingProcess(redPiece, row, col, nextRow, nextCol, computerDirection);
-                }
-            }
-        }
+    // Chooses the first legal move that the MoveGenerator finds, without looking ahead.
+    private long greedyMove(Position position) {
+        MoveGenerator.generateMoves(position, moves);
+        return moves.isEmpty() ? Move.NONE : moves.get(0);
     }
 
-    private void eatingProcess(Piece redPiece, int startRow, int startCol, int row, int col, int[][] computerDirection) {
-        int nextRowOfCapturedPiece = (redPiece.getRow() + row) / 2;
-        int nextColOfCapturedPiece = (redPiece.getCol() + col) / 2;
-        Optional<Piece> nextCapturedPiece = fieldManagerService.getBoardPiece(nextRowOfCapturedPiece, nextColOfCapturedPiece);
-        nextCapturedPiece.ifPresent(piece -> fieldManagerService.getBlackPieces().remove(piece));
-        fieldManagerService.removePiece(nextRowOfCapturedPiece, nextColOfCapturedPiece);
-        fieldManagerService.movePiece(row, col, startRow, startCol);
-        kingTransition(this.baseDataService.getSquareNumber(), redPiece, row);
-        eatingMove(fieldManagerService.getRedKingPieces(), fieldManagerService.getRedKingPieces().size(), ComputerPlayer.COMPUTER_KING_EATING_DIRECTIONS);
-        consecutiveEatingMove(redPiece, row, col, computerDirection);
+    // Lets the SearchEngine look ahead and chooses the best move it found.
+    private long searchMove(Position position) {
+        OptionalLong bookMove = chooseBookMove(position);
+        if (bookMove.isPresent()) {
+            return bookMove.getAsLong();
+        }
+        lastSearchResult = searchEngine.search(position, baseDataService.getSearchDepth(), baseDataService.getMoveTimeMillis());
+        LOGGER.log(Level.FINE, "Computer move searched: {0}", lastSearchResult);
+        return lastSearchResult.getBestMove();
     }
 
-    private boolean regularMove(List<Piece> pieces, int piecesSize, int[][] computerDirection) {
-        for (int i = 0; i < piecesSize; i++) {
-            Piece redPiece = pieces.get(i);
-            int startRow = redPiece.getRow();
-            int startCol = redPiece.getCol();
-            for (int[] direction : computerDirection) {
-                int row = startRow + direction[0];
-                int col = startCol + direction[1];
-                boolean isOutOfBounds = isOutOfBounds(row, col);
-                if (!isOutOfBounds && MoveValidation.isValidMove(redPiece, row, col, this.fieldManagerService)) {
-                    fieldManagerService.movePiece(row, col, startRow, startCol);
-                    kingTransition(this.baseDataService.getSquareNumber(), redPiece, row);
-                    MoveValidation.setHasEaten(false);
-                    return true;
-                }
-            }
+    // A move from the opening book is played at once, so the time of the search is saved for later in the game.
+    private OptionalLong chooseBookMove(Position position) {
+        if (openingBook == null) {
+            return OptionalLong.empty();
+        }
+        OptionalLong bookMove = openingBook.chooseMove(position, random);
+        if (bookMove.isPresent()) {
+            lastSearchResult = null;
+            LOGGER.log(Level.FINE, "Computer move from the opening book: {0}", Move.toString(bookMove.getAsLong()));
         }
-        return false;
+        return bookMove;
+    }
+
+    // Asks a running search to return its best move so far.
+    @Override
+    public void stopSearch() {
+        searchEngine.stop();
     }
 
-    private boolean isOutOfBounds(int row, int col) {
-        return col > 7 || col < 0 || row > 7 || row < 0;
+    // The board does not know whose turn it is, but the computer is only asked for a move when it is its turn.
+    private Position getComputerPosition() {
+        Position position = fieldManagerService.getPosition();
+        position.setSideToMove(PieceColor.RED);
+        return position;
     }
 
-    private void kingTransition(int boardSize, Piece redPiece, int row) {
-        if (row == boardSize - 1) {
+    // Plays a move of the red pieces on the board, it has to be legal for the current board.
+    @Override
+    public void playMove(long move) {
+        int fromRow = geometry.toRow(Move.getFrom(move));
+        int fromCol = geometry.toCol(Move.getFrom(move));
+        int toRow = geometry.toRow(Move.getTo(move));
+        int toCol = geometry.toCol(Move.getTo(move));
+        Piece redPiece = fieldManagerService.getBoardPiece(fromRow, fromCol)
+                .orElseThrow(() -> new IllegalStateException("No piece found for move " + Move.toString(move)));
+        long capturedPieces = Move.getCapturedPieces(move);
+        while (capturedPieces != 0) {
+            int capturedSquare = Long.numberOfTrailingZeros(capturedPieces);
+            capturedPieces &= capturedPieces - 1;
+            int rowOfCapturedPiece = geometry.toRow(capturedSquare);
+            int colOfCapturedPiece = geometry.toCol(capturedSquare);
+            Optional<Piece> capturedPiece = fieldManagerService.getBoardPiece(rowOfCapturedPiece, colOfCapturedPiece);
+            capturedPiece.ifPresent(piece -> fieldManagerService.getBlackPieces().remove(piece));
+            fieldManagerService.removePiece(rowOfCapturedPiece, colOfCapturedPiece);
+        }
+        // A king can end a capture on its start square, in that case it must not be moved.
+        if (fromRow != toRow || fromCol != toCol) {
+            fieldManagerService.movePiece(toRow, toCol, fromRow, fromCol);
+        }
+        if (Move.isPromotion(move)) {
             redPiece.makeKing();
             fieldManagerService.updateRedKingPieces();
         }
     }
 
+    // Forgets what the search has learned in this game, so the next move is searched as in a new game.
+    @Override
+    public void clearSearch() {
+        searchEngine.clear();
+    }
+
+    @Override
+    public void setStrategy(ComputerStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @Override
+    public ComputerStrategy getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public Optional<SearchResult> getLastSearchResult() {
+        return Optional.ofNullable(lastSearchResult);
+    }
+
+    // Ends the search of this game, the helper threads belong to the SearchResourcesService and keep running.
+    @Override
+    public void shutdown() {
+        searchEngine.shutdown();
+    }
+
     @Override
     public String getName() {
         return ComputerPlayerService.class.getSimpleName();
@@ -0,0 +1,53 @@
+package checkers.core.logic;
+
+import checkers.core.board.Move;
+import checkers.core.board.Position;
+import checkers.hosting.interfaces.*;
+
+/**
+ * Holds the state of one game that lasts longer than a single click of the human player.
+ * Every game has its own session, so any number of games can run side by side in one process.
+ */
+public class GameSession implements GameSessionService {
+
+    // Is true while the human player continues a capture with the piece that has just captured.
+    private boolean hasEaten;
+    private long capture = Move.NONE;
+    private Position capturePosition;
+
+    @Override
+    public boolean isHasEaten() {
+        return hasEaten;
+    }
+
+    @Override
+    public void setHasEaten(boolean hasEaten) {
+        this.hasEaten = hasEaten;
+        if (!hasEaten) {
+            capture = Move.NONE;
+            capturePosition = null;
+        }
+    }
+
+    @Override
+    public long getCapture() {
+        return capture;
+    }
+
+    @Override
+    public Position getCapturePosition() {
+        return capturePosition;
+    }
+
+    @Override
+    public void startCapture(Position capturePosition, long capture) {
+        this.capturePosition = capturePosition;
+        this.capture = capture;
+        this.hasEaten = true;
+    }
+
+    @Override
+    public String getName() {
+        return GameSessionService.class.getSimpleName();
+    }
+}
@@ -1,77 +1,137 @@
 package checkers.core.logic;
 
-import checkers.core.gui.Piece;
+import checkers.core.board.BoardGeometry;
+import checkers.core.board.Move;
+import checkers.core.board.Piece;
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
 import checkers.hosting.interfaces.*;
 
 import java.util.Optional;
 
 /**
  * Controls the moves of the human player
+ *
+ * Every click is checked against the legal moves of the {@link MoveGenerator}, so the human player follows the same
+ * rules as the computer on both boards. A capture is clicked jump by jump and each jump is only accepted if the
+ * capture can still end in a legal move. The capture ends by itself as soon as it cannot be continued.
  */
 public class HumanPlayer implements HumanPlayerService {
 
     private FieldManagerService fieldManagerService;
+    private GameSessionService gameSessionService;
+    private final MoveList legalMoves = new MoveList();
+    private final MoveList captureSteps = new MoveList();
+    private final MoveList captureEnds = new MoveList();
 
-    public HumanPlayer(FieldManagerService fieldManagerService) {
+    public HumanPlayer(FieldManagerService fieldManagerService, GameSessionService gameSessionService) {
         this.fieldManagerService = fieldManagerService;
+        this.gameSessionService = gameSessionService;
     }
 
+    /**
+     * Returns 0 if the click is not part of a legal move, 1 if the piece has captured and has to capture again
+     * and 2 if the move is finished.
+     */
     @Override
     public int handleMoveClick(int row, int col, Optional<Piece> selectedPiece) {
-        boolean isPiecePresent = selectedPiece.isPresent();
-
-        if (MoveValidation.isHasEaten() && isPiecePresent) {
-            return handleCaptureSubsequentSteps(row, col, selectedPiece.get());
+        if (!selectedPiece.isPresent() || selectedPiece.get().getColor() != PieceColor.BLACK) {
+            return 0;
         }
-
-        if (!isPiecePresent || !MoveValidation.isValidMove(selectedPiece.get(), row, col, this.fieldManagerService)) {
+        Piece piece = selectedPiece.get();
+        boolean isCapturing = gameSessionService.isHasEaten();
+        Position position = isCapturing ? gameSessionService.getCapturePosition() : getHumanPosition();
+        BoardGeometry geometry = position.getGeometry();
+        int square = geometry.toSquare(piece.getRow(), piece.getCol());
+        int target = geometry.toSquare(row, col);
+        if (square < 0 || target < 0 || (isCapturing && square != Move.getTo(gameSessionService.getCapture()))) {
             return 0;
         }
-
-        if (MoveValidation.isHasEaten()) {
-            humanEatingProcess(row, col, selectedPiece.get());
-            return 1;
+        MoveGenerator.generateMoves(position, legalMoves);
+        if (legalMoves.isEmpty()) {
+            return 0;
         }
+        if (!Move.isCapture(legalMoves.get(0))) {
+            return handleStep(piece, geometry, square, target);
+        }
+        long capture = isCapturing ? gameSessionService.getCapture() : Move.encode(square, square, 0L, false);
+        return handleCaptureStep(piece, position, capture, target);
+    }
 
-        this.fieldManagerService.movePiece(row, col, selectedPiece.get().getRow(), selectedPiece.get().getCol());
-        kingTransition(row, selectedPiece.get());
-        MoveValidation.setHasEaten(false);
-        return 2;
+    // Without a capture on the board, the human player may make any legal step.
+    private int handleStep(Piece piece, BoardGeometry geometry, int square, int target) {
+        for (int i = 0; i < legalMoves.size(); i++) {
+            long move = legalMoves.get(i);
+            if (Move.getFrom(move) == square && Move.getTo(move) == target) {
+                movePiece(piece, geometry, target, move);
+                gameSessionService.setHasEaten(false);
+                return 2;
+            }
+        }
+        return 0;
     }
 
-    // Method handles the steps after a player captured an opponent's piece.
-    public int handleCaptureSubsequentSteps(int row, int col, Piece selectedPiece) {
-        boolean isValidMove = MoveValidation.isValidMove(selectedPiece, row, col, this.fieldManagerService);
-        if (MoveValidation.isHasEaten() && isValidMove) {
-            humanEatingProcess(row, col, selectedPiece);
+    private int handleCaptureStep(Piece piece, Position position, long capture, int target) {
+        MoveGenerator.generateCaptureSteps(position, capture, captureSteps);
+        for (int i = 0; i < captureSteps.size(); i++) {
+            long step = captureSteps.get(i);
+            if (Move.getTo(step) != target || !canEndLegally(position, step)) {
+                continue;
+            }
+            removeCapturedPiece(position.getGeometry(), Move.getCapturedPieces(step) & ~Move.getCapturedPieces(capture));
+            // The piece is finished when the step is the only end of the capture, which is then one of the legal moves.
+            boolean isFinished = captureEnds.size() == 1 && Move.getCapturedPieces(captureEnds.get(0)) == Move.getCapturedPieces(step);
+            movePiece(piece, position.getGeometry(), target, isFinished ? captureEnds.get(0) : step);
+            if (isFinished) {
+                gameSessionService.setHasEaten(false);
+                return 2;
+            }
+            gameSessionService.startCapture(position, step);
             return 1;
-        } else if (isValidMove) {
-            this.fieldManagerService.movePiece(row, col, selectedPiece.getRow(), selectedPiece.getCol());
-            kingTransition(row, selectedPiece);
-            MoveValidation.setHasEaten(false);
-            return 2;
         }
         return 0;
     }
 
-    private void humanEatingProcess(int row, int col, Piece selectedPiece) {
-        int rowOfCapturedPiece = (selectedPiece.getRow() + row) / 2;
-        int colOfCapturedPiece = (selectedPiece.getCol() + col) / 2;
+    // Fills the capture ends of the step and checks that one of them is a legal move.
+    private boolean canEndLegally(Position position, long step) {
+        MoveGenerator.generateCaptureEnds(position, step, captureEnds);
+        for (int i = 0; i < captureEnds.size(); i++) {
+            if (legalMoves.contains(captureEnds.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeCapturedPiece(BoardGeometry geometry, long capturedPieces) {
+        int capturedSquare = Long.numberOfTrailingZeros(capturedPieces);
+        int rowOfCapturedPiece = geometry.toRow(capturedSquare);
+        int colOfCapturedPiece = geometry.toCol(capturedSquare);
         Optional<Piece> capturedPiece = this.fieldManagerService.getBoardPiece(rowOfCapturedPiece, colOfCapturedPiece);
         capturedPiece.ifPresent(p -> {
             this.fieldManagerService.getRedPieces().remove(p);
             this.fieldManagerService.removePiece(rowOfCapturedPiece, colOfCapturedPiece);
         });
-        this.fieldManagerService.movePiece(row, col, selectedPiece.getRow(), selectedPiece.getCol());
-        kingTransition(row, selectedPiece);
     }
 
-    private void kingTransition(int row, Piece selectedPiece) {
-        if (row == 0) {
-            selectedPiece.makeKing();
+    // A piece that is crowned on the 8x8 board in the middle of a capture continues the capture as a king.
+    private void movePiece(Piece piece, BoardGeometry geometry, int target, long move) {
+        int row = geometry.toRow(target);
+        int col = geometry.toCol(target);
+        if (row != piece.getRow() || col != piece.getCol()) {
+            this.fieldManagerService.movePiece(row, col, piece.getRow(), piece.getCol());
+        }
+        if (Move.isPromotion(move) && !piece.isKing()) {
+            piece.makeKing();
         }
     }
 
+    private Position getHumanPosition() {
+        Position position = fieldManagerService.getPosition();
+        position.setSideToMove(PieceColor.BLACK);
+        return position;
+    }
+
     @Override
     public String getName() {
         return HumanPlayerService.class.getSimpleName();
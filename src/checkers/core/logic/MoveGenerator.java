@@ -0,0 +1,238 @@
+package checkers.core.logic;
+
+import checkers.core.board.BoardGeometry;
+import checkers.core.board.Move;
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
+
+import java.util.Optional;
+
+/**
+ * Generates all legal moves of one side for a {@link Position}.
+ *
+ * On the 8x8 board men move and capture forward, kings move and capture in all four directions.
+ * Capturing is mandatory and a capture always continues until the piece cannot capture any more. A man that reaches the last row during a capture is crowned and continues as king.
+ * On the 10x10 board the international rules of {@link BoardGeometry} apply.
+ * The generator only reads the given position, so it can be used from any number of games or threads at once.
+ */
+public final class MoveGenerator {
+
+    // No one should be able to create an instance of this class, because it only generates moves.
+    private MoveGenerator() {
+    }
+
+    public static void generateMoves(Position position, MoveList moves) {
+        generateMoves(position, position.getSideToMove(), moves);
+    }
+
+    /**
+     * Fills the list with all legal moves of the given side. If the side can capture,
+     * only the captures are legal.
+     */
+    public static void generateMoves(Position position, PieceColor color, MoveList moves) {
+        moves.clear();
+        generateCaptures(position, color, moves);
+        if (moves.isEmpty()) {
+            generateSteps(position, color, moves);
+        }
+    }
+
+    // Adds the captures to a list that holds no other moves, because shorter captures may be removed again.
+    public static void generateCaptures(Position position, PieceColor color, MoveList moves) {
+        BoardGeometry geometry = position.getGeometry();
+        long opponentPieces = position.getPieces(opposite(color));
+        long kingPieces = position.getKingPieces();
+        long pieces = position.getPieces(color);
+        while (pieces != 0) {
+            int square = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            // The moving piece leaves its start square, so it may land there again at the end of a capture.
+            long emptySquares = position.getEmptySquares() | (1L << square);
+            boolean isKing = (kingPieces & (1L << square)) != 0;
+            if (geometry.hasInternationalRules()) {
+                addInternationalCaptures(geometry, square, square, isKing, 0L, emptySquares, opponentPieces, color, moves);
+            } else {
+                addCaptures(geometry, square, square, isKing, false, 0L, emptySquares, opponentPieces, color, moves);
+            }
+        }
+    }
+
+    public static void generateSteps(Position position, PieceColor color, MoveList moves) {
+        BoardGeometry geometry = position.getGeometry();
+        long emptySquares = position.getEmptySquares();
+        long kingPieces = position.getKingPieces();
+        long promotionRow = geometry.getPromotionRow(color);
+        boolean hasFlyingKings = geometry.hasInternationalRules();
+        long pieces = position.getPieces(color);
+        while (pieces != 0) {
+            int square = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            boolean isKing = (kingPieces & (1L << square)) != 0;
+            int lastDirection = getLastDirection(color, isKing);
+            for (int direction = getFirstDirection(color, isKing); direction <= lastDirection; direction++) {
+                int target = geometry.getNeighbour(direction, square);
+                while (target >= 0 && (emptySquares & (1L << target)) != 0) {
+                    boolean isPromotion = !isKing && (promotionRow & (1L << target)) != 0;
+                    moves.add(Move.encode(square, target, 0L, isPromotion));
+                    target = isKing && hasFlyingKings ? geometry.getNeighbour(direction, target) : -1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds every single jump that continues a capture which is not finished yet. The partial move holds the start
+     * square, the square the piece has reached and the pieces it has captured so far. The position is the one
+     * from before the capture, because the captured pieces stay on the board until the move ends.
+     * A partial move that has not captured anything yet adds the first jumps of the piece.
+     */
+    public static void generateCaptureSteps(Position position, long partialMove, MoveList steps) {
+        steps.clear();
+        BoardGeometry geometry = position.getGeometry();
+        int from = Move.getFrom(partialMove);
+        int square = Move.getTo(partialMove);
+        long capturedPieces = Move.getCapturedPieces(partialMove);
+        Optional<PieceColor> color = position.getColor(from);
+        if (!color.isPresent()) {
+            return;
+        }
+        long opponentPieces = position.getPieces(opposite(color.get()));
+        long emptySquares = position.getEmptySquares() | (1L << from);
+        boolean isInternational = geometry.hasInternationalRules();
+        boolean isKing = position.isKing(from) || (!isInternational && Move.isPromotion(partialMove));
+        int firstDirection = isInternational ? 0 : getFirstDirection(color.get(), isKing);
+        int lastDirection = isInternational ? BoardGeometry.DIRECTION_COUNT - 1 : getLastDirection(color.get(), isKing);
+        boolean hasFlyingKing = isInternational && isKing;
+        for (int direction = firstDirection; direction <= lastDirection; direction++) {
+            int capturedSquare = geometry.getNeighbour(direction, square);
+            while (hasFlyingKing && capturedSquare >= 0 && (emptySquares & (1L << capturedSquare)) != 0) {
+                capturedSquare = geometry.getNeighbour(direction, capturedSquare);
+            }
+            if (capturedSquare < 0) {
+                continue;
+            }
+            long capturedBit = 1L << capturedSquare;
+            if ((opponentPieces & capturedBit) == 0 || (capturedPieces & capturedBit) != 0) {
+                continue;
+            }
+            int landingSquare = geometry.getNeighbour(direction, capturedSquare);
+            while (landingSquare >= 0 && (emptySquares & (1L << landingSquare)) != 0) {
+                boolean isCrowned = !isInternational && !isKing && (geometry.getPromotionRow(color.get()) & (1L << landingSquare)) != 0;
+                steps.add(Move.encode(from, landingSquare, capturedPieces | capturedBit, Move.isPromotion(partialMove) || isCrowned));
+                landingSquare = hasFlyingKing ? geometry.getNeighbour(direction, landingSquare) : -1;
+            }
+        }
+    }
+
+    /**
+     * Adds all moves in which a partial move of {@link #generateCaptureSteps} can end. The partial move itself is
+     * added if it cannot be continued. On the 10x10 board only the ends that capture the most pieces are added,
+     * so an end is only legal if the list of {@link #generateMoves} contains it too.
+     */
+    public static void generateCaptureEnds(Position position, long partialMove, MoveList moves) {
+        moves.clear();
+        BoardGeometry geometry = position.getGeometry();
+        int from = Move.getFrom(partialMove);
+        Optional<PieceColor> color = position.getColor(from);
+        if (!color.isPresent()) {
+            return;
+        }
+        long opponentPieces = position.getPieces(opposite(color.get()));
+        long emptySquares = position.getEmptySquares() | (1L << from);
+        long capturedPieces = Move.getCapturedPieces(partialMove);
+        if (geometry.hasInternationalRules()) {
+            addInternationalCaptures(geometry, from, Move.getTo(partialMove), position.isKing(from), capturedPieces,
+                    emptySquares, opponentPieces, color.get(), moves);
+        } else {
+            boolean isPromoted = Move.isPromotion(partialMove);
+            addCaptures(geometry, from, Move.getTo(partialMove), position.isKing(from) || isPromoted, isPromoted,
+                    capturedPieces, emptySquares, opponentPieces, color.get(), moves);
+        }
+    }
+
+    // Follows every possible capture from the current square and adds a move when the capture can not be continued.
+    private static void addCaptures(BoardGeometry geometry, int from, int square, boolean isKing, boolean isPromoted,
+                                    long capturedPieces, long emptySquares, long opponentPieces, PieceColor color,
+                                    MoveList moves) {
+        boolean canContinue = false;
+        int lastDirection = getLastDirection(color, isKing);
+        for (int direction = getFirstDirection(color, isKing); direction <= lastDirection; direction++) {
+            int landingSquare = geometry.getJump(direction, square);
+            if (landingSquare < 0 || (emptySquares & (1L << landingSquare)) == 0) {
+                continue;
+            }
+            long capturedBit = 1L << geometry.getNeighbour(direction, square);
+            if ((opponentPieces & capturedBit) == 0 || (capturedPieces & capturedBit) != 0) {
+                continue;
+            }
+            canContinue = true;
+            boolean isCrowned = !isKing && (geometry.getPromotionRow(color) & (1L << landingSquare)) != 0;
+            addCaptures(geometry, from, landingSquare, isKing || isCrowned, isPromoted || isCrowned,
+                    capturedPieces | capturedBit, emptySquares, opponentPieces, color, moves);
+        }
+        if (!canContinue && capturedPieces != 0) {
+            moves.add(Move.encode(from, square, capturedPieces, isPromoted));
+        }
+    }
+
+    // Like addCaptures, but men capture in all directions and kings jump over a piece at any distance. The captured
+    // pieces stay on the board until the move ends, so they block the way and cannot be captured twice.
+    private static void addInternationalCaptures(BoardGeometry geometry, int from, int square, boolean isKing,
+                                                 long capturedPieces, long emptySquares, long opponentPieces,
+                                                 PieceColor color, MoveList moves) {
+        boolean canContinue = false;
+        for (int direction = 0; direction < BoardGeometry.DIRECTION_COUNT; direction++) {
+            int capturedSquare = geometry.getNeighbour(direction, square);
+            while (isKing && capturedSquare >= 0 && (emptySquares & (1L << capturedSquare)) != 0) {
+                capturedSquare = geometry.getNeighbour(direction, capturedSquare);
+            }
+            if (capturedSquare < 0) {
+                continue;
+            }
+            long capturedBit = 1L << capturedSquare;
+            if ((opponentPieces & capturedBit) == 0 || (capturedPieces & capturedBit) != 0) {
+                continue;
+            }
+            int landingSquare = geometry.getNeighbour(direction, capturedSquare);
+            while (landingSquare >= 0 && (emptySquares & (1L << landingSquare)) != 0) {
+                canContinue = true;
+                addInternationalCaptures(geometry, from, landingSquare, isKing, capturedPieces | capturedBit,
+                        emptySquares, opponentPieces, color, moves);
+                landingSquare = isKing ? geometry.getNeighbour(direction, landingSquare) : -1;
+            }
+        }
+        if (!canContinue && capturedPieces != 0) {
+            // A man is only crowned when it ends its move on the last row.
+            boolean isPromotion = !isKing && (geometry.getPromotionRow(color) & (1L << square)) != 0;
+            addMostCapturingMove(Move.encode(from, square, capturedPieces, isPromotion), moves);
+        }
+    }
+
+    // Keeps only the captures of the most pieces, different ways to the same captures count as one move.
+    private static void addMostCapturingMove(long move, MoveList moves) {
+        if (!moves.isEmpty()) {
+            int capturedCount = Long.bitCount(Move.getCapturedPieces(move));
+            int mostCapturedCount = Long.bitCount(Move.getCapturedPieces(moves.get(0)));
+            if (capturedCount < mostCapturedCount || (capturedCount == mostCapturedCount && moves.contains(move))) {
+                return;
+            }
+            if (capturedCount > mostCapturedCount) {
+                moves.clear();
+            }
+        }
+        moves.add(move);
+    }
+
+    public static PieceColor opposite(PieceColor color) {
+        return color == PieceColor.RED ? PieceColor.BLACK : PieceColor.RED;
+    }
+
+    // Red men move down the board and black men move up, kings use all directions.
+    private static int getFirstDirection(PieceColor color, boolean isKing) {
+        return isKing || color == PieceColor.BLACK ? BoardGeometry.UP_LEFT : BoardGeometry.DOWN_LEFT;
+    }
+
+    private static int getLastDirection(PieceColor color, boolean isKing) {
+        return isKing || color == PieceColor.RED ? BoardGeometry.DOWN_RIGHT : BoardGeometry.UP_RIGHT;
+    }
+}
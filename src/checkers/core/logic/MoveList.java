@@ -0,0 +1,68 @@
+package checkers.core.logic;
+
+import checkers.core.board.Move;
+
+/**
+ * Holds the moves found by the {@link MoveGenerator} as primitive values,
+ * so that the same list can be filled again for every position without creating new objects.
+ */
+public class MoveList {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] moves;
+    private int size;
+
+    public MoveList() {
+        moves = new long[INITIAL_CAPACITY];
+    }
+
+    public void add(long move) {
+        if (size == moves.length) {
+            long[] grownMoves = new long[moves.length * 2];
+            System.arraycopy(moves, 0, grownMoves, 0, size);
+            moves = grownMoves;
+        }
+        moves[size++] = move;
+    }
+
+    public long get(int index) {
+        return moves[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void swap(int firstIndex, int secondIndex) {
+        long move = moves[firstIndex];
+        moves[firstIndex] = moves[secondIndex];
+        moves[secondIndex] = move;
+    }
+
+    public boolean contains(long move) {
+        for (int i = 0; i < size; i++) {
+            if (moves[i] == move) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("MoveList{");
+        for (int i = 0; i < size; i++) {
+            builder.append(i == 0 ? "" : ", ").append(Move.toString(moves[i]));
+        }
+        return builder.append('}').toString();
+    }
+}
@@ -1,49 +1,22 @@
 package checkers.core.logic;
 
-import checkers.core.gui.Piece;
-import checkers.core.gui.Piece.PieceColor;
+import checkers.core.board.Piece;
+import checkers.core.board.Piece.PieceColor;
 import checkers.hosting.interfaces.*;
 
 import java.util.Optional;
 
 /**
- * Checks the moves of both types of players {@link HumanPlayer} and {@link ComputerPlayer}.
+ * Checks single properties of a step of a piece on the board against the 8x8 rules, without looking at the other
+ * pieces that could capture. The {@link HumanPlayer} and the {@link ComputerPlayer} play the legal moves of the
+ * {@link MoveGenerator}, which also knows the compulsory captures and the 10x10 rules. The checks never change any state.
  */
 public class MoveValidation {
 
-    private static boolean hasEaten = false;
-
     // No one should be able to create an instance of this class, because this is only meant to validate moves.
     private MoveValidation() {
     }
 
-    public static boolean isValidMove(Piece piece, int endRow, int endCol, FieldManagerService fieldManagerService) {
-        int startRow = piece.getRow();
-        int startCol = piece.getCol();
-
-        if (!isMoveDiagonal(endRow, endCol, startRow, startCol)) {
-            return false;
-        }
-
-        if (!isDestinationSquareEmpty(endRow, endCol, fieldManagerService)) {
-            return false;
-        }
-
-        if (!isMoveInCorrectDirection(piece, endRow, startRow)) {
-            return false;
-        }
-
-        if (isMoveTooBig(piece, endRow, endCol, startRow, startCol, fieldManagerService)) {
-            return false;
-        }
-        // If a player has already eaten a piece, the next step has to be another eating step. Any other kind of step will return false.
-        if (isHasEaten() && !isCaptureValid(piece, endRow, endCol, startRow, startCol, fieldManagerService)) {
-            return false;
-        }
-
-        return true;
-    }
-
     public static boolean isMoveDiagonal(int endRow, int endCol, int startRow, int startCol) {
         return Math.abs(endRow - startRow) == Math.abs(endCol - startCol);
     }
@@ -70,6 +43,11 @@ public class MoveValidation {
         return false;
     }
 
+    // Every valid move over more than one row jumps over an opponent's piece.
+    public static boolean isCapture(Piece piece, int endRow) {
+        return Math.abs(endRow - piece.getRow()) > 1;
+    }
+
     public static boolean isCaptureValid(Piece piece, int endRow, int endCol, int startRow, int startCol, FieldManagerService fieldManagerService) {
         int captureRow = (endRow + startRow) / 2;
         int captureCol = (endCol + startCol) / 2;
@@ -77,15 +55,6 @@ public class MoveValidation {
         if (!capturePiece.isPresent() || capturePiece.get().getColor() == piece.getColor()) {
             return false;
         }
-        setHasEaten(true);
         return true;
     }
-
-    public static boolean isHasEaten() {
-        return hasEaten;
-    }
-
-    public static void setHasEaten(boolean hasEaten) {
-        MoveValidation.hasEaten = hasEaten;
-    }
 }
@@ -0,0 +1,71 @@
+package checkers.core.logic;
+
+import checkers.core.board.Position;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the positions that can be reached from a position after a given number of moves (performance test).
+ *
+ * The counts only depend on the rules, so they reveal any change of the {@link MoveGenerator} by accident,
+ * and the time they take measures how fast moves are generated, played and taken back.
+ */
+public class Perft {
+
+    private static final int MAX_DEPTH = 64;
+
+    private final MoveList[] moveLists;
+
+    public Perft() {
+        moveLists = new MoveList[MAX_DEPTH + 1];
+        for (int depth = 0; depth <= MAX_DEPTH; depth++) {
+            moveLists[depth] = new MoveList();
+        }
+    }
+
+    public long count(Position position, int depth) {
+        checkDepth(depth);
+        return countLeaves(position.copy(), depth);
+    }
+
+    // Counts the positions separately for every move of the side to move, in the order of the generator.
+    public Map<Long, Long> divide(Position position, int depth) {
+        checkDepth(depth);
+        Position copy = position.copy();
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(copy, moves);
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < moves.size(); i++) {
+            copy.makeMove(moves.get(i));
+            counts.merge(moves.get(i), countLeaves(copy, depth - 1), Long::sum);
+            copy.unmakeMove();
+        }
+        return counts;
+    }
+
+    private long countLeaves(Position position, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        MoveList moves = moveLists[depth];
+        MoveGenerator.generateMoves(position, moves);
+        // The moves of the last ply do not have to be played to be counted.
+        if (depth == 1) {
+            return moves.size();
+        }
+        long leaves = 0;
+        for (int i = 0; i < moves.size(); i++) {
+            position.makeMove(moves.get(i));
+            leaves += countLeaves(position, depth - 1);
+            position.unmakeMove();
+        }
+        return leaves;
+    }
+
+    private void checkDepth(int depth) {
+        if (depth < 1 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("The depth must be between 1 and " + MAX_DEPTH + ", but was " + depth);
+        }
+    }
+}
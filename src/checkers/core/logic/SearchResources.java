@@ -0,0 +1,111 @@
+package checkers.core.logic;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import checkers.core.board.BoardGeometry;
+import checkers.core.engine.EndgameTablebase;
+import checkers.core.engine.EvaluationWeights;
+import checkers.core.engine.OpeningBook;
+import checkers.core.engine.ParallelSearchEngine;
+import checkers.hosting.interfaces.*;
+
+/**
+ * Loads the evaluation weights, the endgame tablebase and the opening book once for all computer players.
+ *
+ * None of them is changed by a search, so the players of any number of games can use them at the same time.
+ * The helper threads of the search are shared as well, only the transposition table and the move ordering of the
+ * search belong to a single game.
+ */
+public class SearchResources implements SearchResourcesService {
+
+    private static final Logger LOGGER = Logger.getLogger(SearchResources.class.getName());
+    private BaseDataService baseDataService;
+    private EvaluationWeights evaluationWeights;
+    private EndgameTablebase tablebase;
+    private OpeningBook openingBook;
+    private ExecutorService searchHelpers;
+
+    public SearchResources(BaseDataService baseDataService) {
+        this.baseDataService = baseDataService;
+        this.evaluationWeights = loadEvaluationWeights();
+        // The threads of a fixed pool are only started when the first helper is submitted.
+        this.searchHelpers = ParallelSearchEngine.createExecutor(Math.max(1, baseDataService.getSearchThreads() - 1));
+        // The tablebase and the opening book only hold positions of the 8x8 board.
+        if (BoardGeometry.of(baseDataService.getSquareNumber()) == BoardGeometry.STANDARD) {
+            loadTablebase();
+            loadOpeningBook();
+        }
+    }
+
+    // Without a weights file the computer plays with the default weights.
+    private EvaluationWeights loadEvaluationWeights() {
+        Path file = baseDataService.getEvaluationWeightsFile();
+        if (!Files.isRegularFile(file)) {
+            return EvaluationWeights.DEFAULT;
+        }
+        try {
+            return EvaluationWeights.load(file);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "The evaluation weights could not be loaded from " + file, e);
+            return EvaluationWeights.DEFAULT;
+        }
+    }
+
+    // Without generated tables the computer simply plays the endgame with its search alone.
+    private void loadTablebase() {
+        Path directory = baseDataService.getTablebaseDirectory();
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try {
+            tablebase = new EndgameTablebase(directory);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "The endgame tablebase could not be loaded from " + directory, e);
+        }
+    }
+
+    // Without an opening book the computer searches from the first move on.
+    private void loadOpeningBook() {
+        Path file = baseDataService.getOpeningBookFile();
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try {
+            openingBook = new OpeningBook(file);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "The opening book could not be loaded from " + file, e);
+        }
+    }
+
+    @Override
+    public EvaluationWeights getEvaluationWeights() {
+        return evaluationWeights;
+    }
+
+    @Override
+    public Optional<EndgameTablebase> getTablebase() {
+        return Optional.ofNullable(tablebase);
+    }
+
+    @Override
+    public Optional<OpeningBook> getOpeningBook() {
+        return Optional.ofNullable(openingBook);
+    }
+
+    // The helper threads are daemon threads, so they never keep the application alive.
+    @Override
+    public ExecutorService getSearchHelpers() {
+        return searchHelpers;
+    }
+
+    @Override
+    public String getName() {
+        return SearchResourcesService.class.getSimpleName();
+    }
+}
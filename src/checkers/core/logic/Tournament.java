@@ -0,0 +1,156 @@
+package checkers.core.logic;
+
+import checkers.core.board.BoardGeometry;
+import checkers.core.board.FieldManager;
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
+import checkers.core.engine.SearchResult;
+import checkers.hosting.interfaces.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Lets two configurations of the {@link ComputerPlayer} play games against each other without a user interface.
+ *
+ * Every game starts with a few random moves, so that the games differ from each other. Each opening is played twice,
+ * once with each player on each side. A computer player always plays the red pieces, so the player of the black
+ * pieces gets the mirrored position. A game is a draw if a position occurs for the third time with the same side
+ * to move, or if it reaches the maximum number of plies. The games run at the same time on a fixed pool of threads
+ * and every game has its own boards and players, while all games of a player share its {@link SearchResources}.
+ */
+public class Tournament {
+
+    private static final int REPETITIONS_FOR_DRAW = 3;
+
+    private final BaseDataService firstPlayerData;
+    private final BaseDataService secondPlayerData;
+    private final int openingPlies;
+    private final int maxPlies;
+
+    public Tournament(BaseDataService firstPlayerData, BaseDataService secondPlayerData, int openingPlies, int maxPlies) {
+        this.firstPlayerData = firstPlayerData;
+        this.secondPlayerData = secondPlayerData;
+        this.openingPlies = openingPlies;
+        this.maxPlies = maxPlies;
+    }
+
+    public TournamentResult play(int gameCount, int threadCount, long seed) {
+        SearchResourcesService[] searchResources = {new SearchResources(firstPlayerData), new SearchResources(secondPlayerData)};
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<TournamentResult>> gameResults = new ArrayList<>();
+            for (int game = 0; game < gameCount; game++) {
+                int gameNumber = game;
+                gameResults.add(executorService.submit(() -> playGame(gameNumber, seed, searchResources)));
+            }
+            TournamentResult result = new TournamentResult();
+            for (Future<TournamentResult> gameResult : gameResults) {
+                result.merge(getGameResult(gameResult));
+            }
+            return result;
+        } finally {
+            executorService.shutdownNow();
+            for (SearchResourcesService resources : searchResources) {
+                resources.getSearchHelpers().shutdownNow();
+            }
+        }
+    }
+
+    private TournamentResult playGame(int gameNumber, long seed, SearchResourcesService[] searchResources) {
+        TournamentResult result = new TournamentResult();
+        // Two games in a row share their opening, the first player has the red pieces in the first of them.
+        Position position = createOpening(new Random(seed + gameNumber / 2));
+        PieceColor firstPlayerColor = gameNumber % 2 == 0 ? PieceColor.RED : PieceColor.BLACK;
+        FieldManagerService[] fieldManagers = {new FieldManager(firstPlayerData), new FieldManager(secondPlayerData)};
+        ComputerPlayerService[] players = {
+                new ComputerPlayer(fieldManagers[TournamentResult.FIRST_PLAYER], firstPlayerData,
+                        searchResources[TournamentResult.FIRST_PLAYER]),
+                new ComputerPlayer(fieldManagers[TournamentResult.SECOND_PLAYER], secondPlayerData,
+                        searchResources[TournamentResult.SECOND_PLAYER])};
+        Map<Long, Integer> repetitions = new HashMap<>();
+        MoveList moves = new MoveList();
+        try {
+            for (int ply = 0; ply < maxPlies; ply++) {
+                MoveGenerator.generateMoves(position, moves);
+                boolean isFirstPlayerToMove = position.getSideToMove() == firstPlayerColor;
+                if (moves.isEmpty()) {
+                    if (isFirstPlayerToMove) {
+                        result.addLoss();
+                    } else {
+                        result.addWin();
+                    }
+                    return result;
+                }
+                if (repetitions.merge(position.getHash(), 1, Integer::sum) >= REPETITIONS_FOR_DRAW) {
+                    result.addDraw();
+                    return result;
+                }
+                int player = isFirstPlayerToMove ? TournamentResult.FIRST_PLAYER : TournamentResult.SECOND_PLAYER;
+                position.makeMove(playMove(position, moves, fieldManagers[player], players[player], player, result));
+            }
+            result.addDraw();
+            return result;
+        } finally {
+            for (ComputerPlayerService player : players) {
+                player.shutdown();
+            }
+        }
+    }
+
+    private Position createOpening(Random random) {
+        Position position = Position.createStartingPosition(BoardGeometry.of(firstPlayerData.getSquareNumber()));
+        MoveList moves = new MoveList();
+        for (int ply = 0; ply < openingPlies; ply++) {
+            MoveGenerator.generateMoves(position, moves);
+            if (moves.isEmpty()) {
+                break;
+            }
+            position.makeMove(moves.get(random.nextInt(moves.size())));
+        }
+        return position;
+    }
+
+    // Lets the player move on its own board and returns the legal move that leads to the board it left behind.
+    private long playMove(Position position, MoveList moves, FieldManagerService fieldManagerService,
+                          ComputerPlayerService player, int playerNumber, TournamentResult result) {
+        boolean isMirrored = position.getSideToMove() == PieceColor.BLACK;
+        fieldManagerService.setPosition(isMirrored ? position.mirror() : position);
+        long startTime = System.nanoTime();
+        player.computerMove();
+        result.addMove(playerNumber, System.nanoTime() - startTime);
+        Optional<SearchResult> searchResult = player.getLastSearchResult();
+        searchResult.ifPresent(search -> result.addSearch(playerNumber, search.getNodes(), search.getElapsedNanos()));
+        Position playedPosition = isMirrored ? fieldManagerService.getPosition().mirror() : fieldManagerService.getPosition();
+        for (int i = 0; i < moves.size(); i++) {
+            position.makeMove(moves.get(i));
+            boolean isPlayedMove = position.getRedPieces() == playedPosition.getRedPieces()
+                    && position.getBlackPieces() == playedPosition.getBlackPieces()
+                    && position.getKingPieces() == playedPosition.getKingPieces();
+            position.unmakeMove();
+            if (isPlayedMove) {
+                return moves.get(i);
+            }
+        }
+        throw new IllegalStateException("The computer player did not play a legal move in " + position.toFen());
+    }
+
+    private TournamentResult getGameResult(Future<TournamentResult> gameResult) {
+        try {
+            return gameResult.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a tournament game", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A tournament game failed", e.getCause());
+        }
+    }
+}
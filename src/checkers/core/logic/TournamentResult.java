@@ -0,0 +1,96 @@
+package checkers.core.logic;
+
+/**
+ * Sums up the games of a {@link Tournament} from the view of the first player,
+ * together with the move times and search speed of both players.
+ */
+public class TournamentResult {
+
+    public static final int FIRST_PLAYER = 0;
+    public static final int SECOND_PLAYER = 1;
+
+    private int wins;
+    private int draws;
+    private int losses;
+    private final long[] moves;
+    private final long[] moveNanos;
+    private final long[] nodes;
+    private final long[] searchNanos;
+
+    public TournamentResult() {
+        moves = new long[2];
+        moveNanos = new long[2];
+        nodes = new long[2];
+        searchNanos = new long[2];
+    }
+
+    void addWin() {
+        wins++;
+    }
+
+    void addDraw() {
+        draws++;
+    }
+
+    void addLoss() {
+        losses++;
+    }
+
+    void addMove(int player, long elapsedNanos) {
+        moves[player]++;
+        moveNanos[player] += elapsedNanos;
+    }
+
+    void addSearch(int player, long searchedNodes, long elapsedNanos) {
+        nodes[player] += searchedNodes;
+        searchNanos[player] += elapsedNanos;
+    }
+
+    // Adds the games of another result, every game is played with a result of its own.
+    void merge(TournamentResult result) {
+        wins += result.wins;
+        draws += result.draws;
+        losses += result.losses;
+        for (int player = FIRST_PLAYER; player <= SECOND_PLAYER; player++) {
+            moves[player] += result.moves[player];
+            moveNanos[player] += result.moveNanos[player];
+            nodes[player] += result.nodes[player];
+            searchNanos[player] += result.searchNanos[player];
+        }
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public int getGameCount() {
+        return wins + draws + losses;
+    }
+
+    public long getMoveCount(int player) {
+        return moves[player];
+    }
+
+    public double getAverageMoveMillis(int player) {
+        return moves[player] == 0 ? 0 : moveNanos[player] / 1_000_000.0 / moves[player];
+    }
+
+    public long getNodesPerSecond(int player) {
+        return searchNanos[player] == 0 ? 0 : nodes[player] * 1_000_000_000L / searchNanos[player];
+    }
+
+    @Override
+    public String toString() {
+        return "TournamentResult{" + "games: " + getGameCount() + ", wins: " + wins + ", draws: " + draws + ", losses: " + losses
+                + String.format(", move time: %.2f ms / %.2f ms", getAverageMoveMillis(FIRST_PLAYER), getAverageMoveMillis(SECOND_PLAYER))
+                + ", nps: " + getNodesPerSecond(FIRST_PLAYER) + " / " + getNodesPerSecond(SECOND_PLAYER) + '}';
+    }
+}
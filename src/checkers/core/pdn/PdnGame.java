@@ -0,0 +1,67 @@
+package checkers.core.pdn;
+
+import checkers.core.board.Position;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Holds one game of a PDN file: its tags, the position it starts from, the played moves and its result.
+ * The moves are encoded like every other {@link checkers.core.board.Move} of the engine.
+ */
+public class PdnGame {
+
+    public static final String UNKNOWN_RESULT = "*";
+
+    private final Map<String, String> tags;
+    private final Position startPosition;
+    private final long[] moves;
+    private final String result;
+
+    public PdnGame(Map<String, String> tags, Position startPosition, long[] moves, String result) {
+        this.tags = Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+        this.startPosition = startPosition.copy();
+        this.moves = moves.clone();
+        this.result = result;
+    }
+
+    // The tags in the order of the file, for example Event, Black, White and Result.
+    public Map<String, String> getTags() {
+        return tags;
+    }
+
+    public Optional<String> getTag(String name) {
+        return Optional.ofNullable(tags.get(name));
+    }
+
+    public Position getStartPosition() {
+        return startPosition.copy();
+    }
+
+    public long[] getMoves() {
+        return moves.clone();
+    }
+
+    public int getMoveCount() {
+        return moves.length;
+    }
+
+    public long getMove(int index) {
+        return moves[index];
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    // Replays all moves from the start position.
+    public Position getEndPosition() {
+        Position position = startPosition.copy();
+        for (long move : moves) {
+            position.makeMove(move);
+        }
+        return position;
+    }
+}
@@ -0,0 +1,194 @@
+package checkers.core.pdn;
+
+import checkers.core.board.Move;
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
+import checkers.core.logic.MoveGenerator;
+import checkers.core.logic.MoveList;
+
+/**
+ * Translates between the squares, positions and moves of the engine and the standard notation of PDN files.
+ *
+ * The standard numbering starts at the side of the player who moves first, which is the black player of this game,
+ * so it is the numbering of {@link Position} turned around: the standard square n is the square {@code 32 - n}.
+ * In a PDN FEN, W stands for the red pieces.
+ */
+final class PdnNotation {
+
+    // No one should be able to create an instance of this class, because it only translates notation.
+    private PdnNotation() {
+    }
+
+    static int toStandardSquare(int square) {
+        return Position.SQUARE_COUNT - square;
+    }
+
+    static int fromStandardSquare(int standardSquare) {
+        if (standardSquare < 1 || standardSquare > Position.SQUARE_COUNT) {
+            throw new IllegalArgumentException("Invalid square: " + standardSquare);
+        }
+        return Position.SQUARE_COUNT - standardSquare;
+    }
+
+    // For example "B:W21,22,K30:B1,2,K9", with the side to move first and kings marked with a leading K.
+    static String toFen(Position position) {
+        return (position.getSideToMove() == PieceColor.RED ? "W" : "B") + ":W" + toFenSquares(position, position.getRedPieces())
+                + ":B" + toFenSquares(position, position.getBlackPieces());
+    }
+
+    private static String toFenSquares(Position position, long pieces) {
+        StringBuilder builder = new StringBuilder();
+        // The highest square of the engine is the lowest standard square.
+        for (int square = Position.SQUARE_COUNT - 1; square >= 0; square--) {
+            if ((pieces & (1L << square)) != 0) {
+                builder.append(builder.length() == 0 ? "" : ",").append(position.isKing(square) ? "K" : "")
+                        .append(toStandardSquare(square));
+            }
+        }
+        return builder.toString();
+    }
+
+    // Also reads ranges of men like "B:W21-32:B1-12" and a closing full stop.
+    static Position parseFen(String fen) {
+        String[] parts = fen.trim().replaceAll("\\.$", "").split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid FEN: " + fen);
+        }
+        Position position = new Position();
+        position.setSideToMove(parseColor(parts[0], fen));
+        for (int i = 1; i < parts.length; i++) {
+            String part = parts[i].trim();
+            if (part.isEmpty()) {
+                throw new IllegalArgumentException("Invalid FEN: " + fen);
+            }
+            PieceColor color = parseColor(part.substring(0, 1), fen);
+            for (String squareText : part.substring(1).split(",")) {
+                String trimmedSquareText = squareText.trim();
+                if (trimmedSquareText.isEmpty()) {
+                    continue;
+                }
+                boolean isKing = trimmedSquareText.charAt(0) == 'K';
+                String[] range = (isKing ? trimmedSquareText.substring(1) : trimmedSquareText).split("-");
+                int first = parseSquare(range[0], fen);
+                int last = range.length > 1 ? parseSquare(range[1], fen) : first;
+                for (int standardSquare = first; standardSquare <= last; standardSquare++) {
+                    position.setPiece(fromStandardSquare(standardSquare), color, isKing);
+                }
+            }
+        }
+        return position;
+    }
+
+    private static int parseSquare(String text, String fen) {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid square " + text + " in FEN: " + fen, e);
+        }
+    }
+
+    private static PieceColor parseColor(String text, String fen) {
+        switch (text.trim()) {
+            case "W":
+                return PieceColor.RED;
+            case "B":
+                return PieceColor.BLACK;
+            default:
+                throw new IllegalArgumentException("Invalid colour " + text + " in FEN: " + fen);
+        }
+    }
+
+    /**
+     * Finds the legal move of the side to move that the text stands for, for example "11-15", "15x24" or "6x15x24".
+     * The short form of a capture picks the first matching move if the same piece can capture in several ways.
+     */
+    static long parseMove(Position position, String text) {
+        String[] squareTexts = text.replaceAll("[!?]+$", "").split("[-x]");
+        if (squareTexts.length < 2) {
+            throw new IllegalArgumentException("Invalid move: " + text);
+        }
+        int[] squares = new int[squareTexts.length];
+        for (int i = 0; i < squares.length; i++) {
+            try {
+                squares[i] = fromStandardSquare(Integer.parseInt(squareTexts[i]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid move: " + text, e);
+            }
+        }
+        long capturedPieces = squares.length > 2 ? getCapturedPieces(squares) : -1;
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(position, moves);
+        for (int i = 0; i < moves.size(); i++) {
+            long move = moves.get(i);
+            if (Move.getFrom(move) == squares[0] && Move.getTo(move) == squares[squares.length - 1]
+                    && (capturedPieces < 0 || Move.getCapturedPieces(move) == capturedPieces)) {
+                return move;
+            }
+        }
+        throw new IllegalArgumentException("Illegal move: " + text);
+    }
+
+    // The pieces that are jumped over on the way along the given squares.
+    private static long getCapturedPieces(int[] squares) {
+        long capturedPieces = 0;
+        for (int i = 1; i < squares.length; i++) {
+            int capturedSquare = Position.toSquare((Position.toRow(squares[i - 1]) + Position.toRow(squares[i])) / 2,
+                    (Position.toCol(squares[i - 1]) + Position.toCol(squares[i])) / 2);
+            if (capturedSquare < 0 || Math.abs(Position.toRow(squares[i - 1]) - Position.toRow(squares[i])) != 2) {
+                return 0;
+            }
+            capturedPieces |= 1L << capturedSquare;
+        }
+        return capturedPieces;
+    }
+
+    /**
+     * Writes a move of the given position in standard notation. Captures are written with all the squares they
+     * land on, because two captures of the same piece may end on the same square.
+     */
+    static String toText(Position position, long move) {
+        int from = Move.getFrom(move);
+        int to = Move.getTo(move);
+        if (!Move.isCapture(move)) {
+            return toStandardSquare(from) + "-" + toStandardSquare(to);
+        }
+        int[] path = new int[Long.bitCount(Move.getCapturedPieces(move)) + 1];
+        path[0] = from;
+        // The moving piece leaves its start square, so it may land there again.
+        long emptySquares = position.getEmptySquares() | (1L << from);
+        if (!findCapturePath(path, 1, Move.getCapturedPieces(move), emptySquares, to)) {
+            throw new IllegalArgumentException("Invalid capture: " + Move.toString(move));
+        }
+        StringBuilder builder = new StringBuilder();
+        for (int square : path) {
+            builder.append(builder.length() == 0 ? "" : "x").append(toStandardSquare(square));
+        }
+        return builder.toString();
+    }
+
+    private static boolean findCapturePath(int[] path, int length, long capturedPieces, long emptySquares, int to) {
+        int square = path[length - 1];
+        if (capturedPieces == 0) {
+            return square == to;
+        }
+        long remainingPieces = capturedPieces;
+        while (remainingPieces != 0) {
+            int capturedSquare = Long.numberOfTrailingZeros(remainingPieces);
+            remainingPieces &= remainingPieces - 1;
+            int rowStep = Position.toRow(capturedSquare) - Position.toRow(square);
+            int colStep = Position.toCol(capturedSquare) - Position.toCol(square);
+            if (Math.abs(rowStep) != 1 || Math.abs(colStep) != 1) {
+                continue;
+            }
+            int landingSquare = Position.toSquare(Position.toRow(capturedSquare) + rowStep, Position.toCol(capturedSquare) + colStep);
+            if (landingSquare < 0 || (emptySquares & (1L << landingSquare)) == 0) {
+                continue;
+            }
+            path[length] = landingSquare;
+            if (findCapturePath(path, length + 1, capturedPieces & ~(1L << capturedSquare), emptySquares, to)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
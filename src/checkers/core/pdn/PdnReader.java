@@ -0,0 +1,260 @@
+package checkers.core.pdn;
+
+import checkers.core.board.Position;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads the games of a PDN file one after the other, so that even huge collections are read in constant memory.
+ *
+ * Every move is replayed with the {@link checkers.core.logic.MoveGenerator}, which follows the rules of
+ * {@link checkers.core.board.BoardGeometry}. Comments, variations, numeric annotations and move numbers are skipped.
+ * A game with an illegal move throws an {@link IllegalArgumentException} only after it has been read completely,
+ * so the next call continues with the following game.
+ */
+public class PdnReader implements Closeable {
+
+    private static final int END_OF_FILE = -1;
+    private static final int NO_CHARACTER = -2;
+    private static final String FEN_TAG = "FEN";
+
+    private final Reader reader;
+    private int nextCharacter;
+    private int lastCharacter;
+    private int previousCharacter;
+    private int lineNumber;
+    private int gameNumber;
+
+    public PdnReader(Reader reader) {
+        this.reader = reader;
+        this.nextCharacter = NO_CHARACTER;
+        this.lastCharacter = '\n';
+        this.previousCharacter = '\n';
+        this.lineNumber = 1;
+    }
+
+    // PDN files are usually written in Latin-1, which also decodes every other byte without an error.
+    public static PdnReader open(Path file) throws IOException {
+        return new PdnReader(Files.newBufferedReader(file, StandardCharsets.ISO_8859_1));
+    }
+
+    public int getGameNumber() {
+        return gameNumber;
+    }
+
+    // Returns an empty Optional at the end of the file.
+    public Optional<PdnGame> readGame() throws IOException {
+        skipWhitespace();
+        if (peek() == END_OF_FILE) {
+            return Optional.empty();
+        }
+        gameNumber++;
+        int firstLineNumber = lineNumber;
+        Map<String, String> tags = new LinkedHashMap<>();
+        Position startPosition = null;
+        Position position = null;
+        long[] moves = new long[64];
+        int moveCount = 0;
+        String result = PdnGame.UNKNOWN_RESULT;
+        String error = null;
+
+        while (true) {
+            skipWhitespace();
+            int character = peek();
+            if (character == END_OF_FILE) {
+                break;
+            }
+            if (character == '[') {
+                // A tag after the moves already belongs to the next game, which has no result before it.
+                if (position != null) {
+                    break;
+                }
+                read();
+                readTag(tags);
+                continue;
+            }
+            read();
+            if (character == '{') {
+                skipUntil('}');
+            } else if (character == ';' || (character == '%' && isLineStart())) {
+                skipUntil('\n');
+            } else if (character == '(') {
+                skipVariation();
+            } else {
+                String token = readToken((char) character);
+                if (isResult(token)) {
+                    result = token;
+                    break;
+                }
+                String moveText = stripMoveNumber(token);
+                if (moveText.isEmpty() || moveText.startsWith("$")) {
+                    continue;
+                }
+                if (position == null) {
+                    startPosition = createStartPosition(tags);
+                    position = startPosition.copy();
+                }
+                if (error != null) {
+                    continue;
+                }
+                try {
+                    long move = PdnNotation.parseMove(position, moveText);
+                    if (moveCount == moves.length) {
+                        moves = Arrays.copyOf(moves, moveCount * 2);
+                    }
+                    moves[moveCount++] = move;
+                    position.makeMove(move);
+                } catch (IllegalArgumentException e) {
+                    error = e.getMessage() + " at line " + lineNumber;
+                }
+            }
+        }
+
+        if (error != null) {
+            throw new IllegalArgumentException("Game " + gameNumber + " starting at line " + firstLineNumber + ": " + error);
+        }
+        if (startPosition == null) {
+            startPosition = createStartPosition(tags);
+        }
+        return Optional.of(new PdnGame(tags, startPosition, Arrays.copyOf(moves, moveCount), result));
+    }
+
+    private Position createStartPosition(Map<String, String> tags) {
+        String fen = tags.get(FEN_TAG);
+        return fen == null ? Position.createStartingPosition() : PdnNotation.parseFen(fen);
+    }
+
+    // Reads a tag like [Event "Casual game"] after its opening bracket.
+    private void readTag(Map<String, String> tags) throws IOException {
+        StringBuilder name = new StringBuilder();
+        StringBuilder value = new StringBuilder();
+        int character = read();
+        while (character != END_OF_FILE && character != '"' && character != ']') {
+            if (!Character.isWhitespace(character)) {
+                name.append((char) character);
+            }
+            character = read();
+        }
+        if (character == '"') {
+            character = read();
+            while (character != END_OF_FILE && character != '"') {
+                if (character == '\\' && peek() != END_OF_FILE) {
+                    character = read();
+                }
+                value.append((char) character);
+                character = read();
+            }
+            skipUntil(']');
+        }
+        tags.put(name.toString(), value.toString());
+    }
+
+    private String readToken(char firstCharacter) throws IOException {
+        StringBuilder token = new StringBuilder().append(firstCharacter);
+        int character = peek();
+        while (character != END_OF_FILE && !Character.isWhitespace(character) && "[]{}();".indexOf(character) < 0) {
+            token.append((char) read());
+            character = peek();
+        }
+        return token.toString();
+    }
+
+    // Removes a leading move number like "12." or "12..." which may also stand directly before the move.
+    private String stripMoveNumber(String token) {
+        int index = 0;
+        while (index < token.length() && Character.isDigit(token.charAt(index))) {
+            index++;
+        }
+        if (index == 0 || index == token.length() || token.charAt(index) != '.') {
+            return token;
+        }
+        while (index < token.length() && token.charAt(index) == '.') {
+            index++;
+        }
+        return token.substring(index);
+    }
+
+    private boolean isResult(String token) {
+        switch (token) {
+            case "*":
+            case "1-0":
+            case "0-1":
+            case "1/2-1/2":
+            case "2-0":
+            case "0-2":
+            case "1-1":
+            case "0-0":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // Variations may contain comments and further variations.
+    private void skipVariation() throws IOException {
+        int depth = 1;
+        while (depth > 0) {
+            int character = read();
+            if (character == END_OF_FILE) {
+                return;
+            }
+            if (character == '(') {
+                depth++;
+            } else if (character == ')') {
+                depth--;
+            } else if (character == '{') {
+                skipUntil('}');
+            }
+        }
+    }
+
+    private void skipUntil(char endCharacter) throws IOException {
+        int character = read();
+        while (character != END_OF_FILE && character != endCharacter) {
+            character = read();
+        }
+    }
+
+    private void skipWhitespace() throws IOException {
+        while (peek() != END_OF_FILE && Character.isWhitespace(peek())) {
+            read();
+        }
+    }
+
+    // Whether the character that has just been read is the first one of its line.
+    private boolean isLineStart() {
+        return previousCharacter == '\n';
+    }
+
+    private int peek() throws IOException {
+        if (nextCharacter == NO_CHARACTER) {
+            nextCharacter = reader.read();
+        }
+        return nextCharacter;
+    }
+
+    private int read() throws IOException {
+        int character = peek();
+        nextCharacter = NO_CHARACTER;
+        previousCharacter = lastCharacter;
+        lastCharacter = character;
+        if (character == '\n') {
+            lineNumber++;
+        }
+        return character;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
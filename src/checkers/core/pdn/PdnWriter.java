@@ -0,0 +1,95 @@
+package checkers.core.pdn;
+
+import checkers.core.board.BoardGeometry;
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Writes games in the PDN format that {@link PdnReader} reads, one game after the other.
+ * Games that do not start from the starting position get a FEN tag.
+ */
+public class PdnWriter implements Closeable, Flushable {
+
+    private static final int MAX_LINE_LENGTH = 79;
+    private static final String FEN_TAG = "FEN";
+    private static final String RESULT_TAG = "Result";
+
+    private final Writer writer;
+
+    public PdnWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public static PdnWriter create(Path file) throws IOException {
+        return new PdnWriter(Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1));
+    }
+
+    public void write(PdnGame game) throws IOException {
+        Position position = game.getStartPosition();
+        if (position.getGeometry() != BoardGeometry.STANDARD) {
+            throw new IllegalArgumentException("Only games on the 8x8 board can be written");
+        }
+        for (Map.Entry<String, String> tag : game.getTags().entrySet()) {
+            if (!FEN_TAG.equals(tag.getKey())) {
+                writeTag(tag.getKey(), tag.getValue());
+            }
+        }
+        if (!game.getTags().containsKey(RESULT_TAG)) {
+            writeTag(RESULT_TAG, game.getResult());
+        }
+        if (!position.equals(Position.createStartingPosition())) {
+            writeTag(FEN_TAG, PdnNotation.toFen(position));
+        }
+
+        StringBuilder line = new StringBuilder();
+        int moveNumber = 1;
+        for (int i = 0; i < game.getMoveCount(); i++) {
+            if (position.getSideToMove() == PieceColor.BLACK) {
+                appendWord(line, moveNumber + ".");
+            } else if (i == 0) {
+                appendWord(line, moveNumber + "...");
+            }
+            long move = game.getMove(i);
+            appendWord(line, PdnNotation.toText(position, move));
+            if (position.getSideToMove() == PieceColor.RED) {
+                moveNumber++;
+            }
+            position.makeMove(move);
+        }
+        appendWord(line, game.getResult());
+        writer.write(line.toString());
+        writer.write("\n\n");
+    }
+
+    private void writeTag(String name, String value) throws IOException {
+        writer.write("[" + name + " \"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"]\n");
+    }
+
+    // Starts a new line before a word that would make the current line too long.
+    private void appendWord(StringBuilder line, String word) {
+        int lineStart = line.lastIndexOf("\n") + 1;
+        if (line.length() > lineStart) {
+            line.append(line.length() - lineStart + 1 + word.length() > MAX_LINE_LENGTH ? "\n" : " ");
+        }
+        line.append(word);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
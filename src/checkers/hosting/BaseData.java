@@ -1,14 +1,29 @@
 package checkers.hosting;
 
+import checkers.core.board.BoardGeometry;
+import checkers.core.engine.ComputerStrategy;
 import checkers.hosting.interfaces.*;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 /**
  * Represents the configuration data of the application.
  */
 public class BaseData implements BaseDataService {
 
-    private static final int SQUARE_NUMBER = 8;
-    private static final int SQUARE_SIZE = 90;
+    // International draughts is played on the 10x10 board, which is chosen with -Dcheckers.squareNumber=10.
+    private static final int SQUARE_NUMBER = BoardGeometry.of(Integer.getInteger("checkers.squareNumber", 8)).getBoardSize();
+    // The board keeps the same size on the screen, whatever the number of squares.
+    private static final int SQUARE_SIZE = 720 / SQUARE_NUMBER;
+    private static final ComputerStrategy COMPUTER_STRATEGY = ComputerStrategy.ALPHA_BETA;
+    private static final int SEARCH_DEPTH = 40;
+    private static final long MOVE_TIME_MILLIS = 1000;
+    private static final int TRANSPOSITION_TABLE_MEGABYTES = 32;
+    private static final int SEARCH_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final Path TABLEBASE_DIRECTORY = Paths.get("tablebases");
+    private static final Path OPENING_BOOK_FILE = Paths.get("opening.book");
+    private static final Path EVALUATION_WEIGHTS_FILE = Paths.get("evaluation.properties");
 
     @Override
     public int getSquareNumber() {
@@ -20,6 +35,46 @@ public class BaseData implements BaseDataService {
         return SQUARE_SIZE;
     }
 
+    @Override
+    public ComputerStrategy getComputerStrategy() {
+        return COMPUTER_STRATEGY;
+    }
+
+    @Override
+    public int getSearchDepth() {
+        return SEARCH_DEPTH;
+    }
+
+    @Override
+    public long getMoveTimeMillis() {
+        return MOVE_TIME_MILLIS;
+    }
+
+    @Override
+    public int getTranspositionTableMegabytes() {
+        return TRANSPOSITION_TABLE_MEGABYTES;
+    }
+
+    @Override
+    public int getSearchThreads() {
+        return SEARCH_THREADS;
+    }
+
+    @Override
+    public Path getTablebaseDirectory() {
+        return TABLEBASE_DIRECTORY;
+    }
+
+    @Override
+    public Path getOpeningBookFile() {
+        return OPENING_BOOK_FILE;
+    }
+
+    @Override
+    public Path getEvaluationWeightsFile() {
+        return EVALUATION_WEIGHTS_FILE;
+    }
+
     @Override
     public String getName() {
         return BaseDataService.class.getSimpleName();
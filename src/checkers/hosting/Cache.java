@@ -2,72 +2,98 @@ package checkers.hosting;
 
 import checkers.hosting.interfaces.*;
 
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 /**
- * Represents the cache of instantiated services in the application.
+ * Represents the cache of instantiated services in the application, keyed by the interface of the service.
+ *
+ * A cached service is found with one hash lookup and one volatile read. A missing service is created at most once,
+ * even if several threads ask for it at the same time, and the time its creation took is remembered.
  */
 public class Cache {
 
-    private List<Service> services;
+    private final Map<Class<?>, Entry> entries;
+    private final List<Class<?>> creationOrder;
 
     public Cache() {
-        services = new ArrayList<>();
+        entries = new ConcurrentHashMap<>();
+        creationOrder = new CopyOnWriteArrayList<>();
+    }
+
+    public <T> Optional<T> getService(Class<T> serviceType) {
+        Entry entry = entries.get(serviceType);
+        return entry == null ? Optional.empty() : Optional.ofNullable(serviceType.cast(entry.service));
     }
 
-    public Optional<Service> getService(String searchedServiceName) {
-        for (Service service : services) {
-            if (service.getName().equalsIgnoreCase(searchedServiceName)) {
-                return Optional.ofNullable(service);
+    /**
+     * Returns the cached service of the type or creates it with the factory. Other threads that ask for the same
+     * service wait until it is created, services of other types can be created at the same time.
+     * The factory may ask for other services, but a service that needs itself can never be created.
+     */
+    public <T> T getOrCreateService(Class<T> serviceType, Supplier<? extends T> factory) {
+        Entry entry = entries.get(serviceType);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(serviceType, type -> new Entry());
+        }
+        Object service = entry.service;
+        if (service != null) {
+            return serviceType.cast(service);
+        }
+        synchronized (entry) {
+            if (entry.service == null) {
+                if (entry.isCreating) {
+                    throw new IllegalStateException("The service " + serviceType.getSimpleName() + " depends on itself");
+                }
+                entry.isCreating = true;
+                try {
+                    long startTime = System.nanoTime();
+                    T createdService = factory.get();
+                    entry.creationNanos = System.nanoTime() - startTime;
+                    entry.service = createdService;
+                    creationOrder.add(serviceType);
+                } finally {
+                    entry.isCreating = false;
+                }
             }
+            return serviceType.cast(entry.service);
         }
-        return Optional.empty();
     }
 
-    public Optional<Service> addService(Service newService) {
-        if (!isServiceCached(newService)) {
-            services.add(newService);
-            return Optional.ofNullable(newService);
-        }
-        return Optional.empty();
+    // Replaces the service of the same type, the services that were created with the old one keep using it.
+    public <T extends Service> void insertOrReplaceService(Class<T> serviceType, T service) {
+        Entry entry = new Entry();
+        entry.service = service;
+        entries.put(serviceType, entry);
     }
 
-    private Boolean isServiceCached(Service searchedService) {
-        for (Service service : services) {
-            if (service.getName().equalsIgnoreCase(searchedService.getName())) {
-                return true;
-            }
-        }
-        return false;
+    public void removeService(Class<?> serviceType) {
+        entries.remove(serviceType);
+        creationOrder.remove(serviceType);
     }
 
-    public void insertOrReplaceService(Service newService) {
-        //Is current ServiceType already instantiated? => Remove it.
-        if (isServiceCached(newService)) {
-            Iterator<Service> iterator = services.iterator();
-            while (iterator.hasNext()) {
-                Service service = iterator.next();
-                if (service.getName().equalsIgnoreCase(newService.getName())) {
-                    iterator.remove();
-                }
+    // The creation time of every service that was created by this cache in nanoseconds, in the order of creation.
+    // A time includes the creation of the services that were created for it first.
+    public Map<Class<?>, Long> getCreationNanos() {
+        Map<Class<?>, Long> creationNanos = new LinkedHashMap<>();
+        for (Class<?> serviceType : creationOrder) {
+            Entry entry = entries.get(serviceType);
+            if (entry != null) {
+                creationNanos.put(serviceType, entry.creationNanos);
             }
         }
-        addService(newService);
+        return creationNanos;
     }
 
-    public void removeService(Service serviceToRemove) {
-        if (isServiceCached(serviceToRemove)) {
-            Iterator<Service> iterator = services.iterator();
-            while (iterator.hasNext()) {
-                Service service = iterator.next();
-                if (service.getName().equalsIgnoreCase(serviceToRemove.getName())) {
-                    iterator.remove();
-                }
-            }
-        }
+    private static final class Entry {
+
+        private volatile Object service;
+        private boolean isCreating;
+        private long creationNanos;
     }
 }
@@ -5,86 +5,119 @@ import checkers.core.gui.*;
 import checkers.core.logic.*;
 import checkers.hosting.interfaces.*;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Instantiates and manages all services of the application.
+ *
+ * A container without a parent is the application container, it holds the services of the {@link ServiceScope#APPLICATION}
+ * scope and can also hold the services of one game. Every container of {@link #createGameScope} holds the services
+ * of its own game and shares the application services with all other games. Services are created lazily,
+ * only once and without a lock once they exist, so any number of threads can ask any container for them.
  */
 public class Container {
 
-    private Cache cache;
     public static final String SCENE_MANAGER_EXCEPTION = "FieldManagerService does not exist";
     public static final String FIELD_MANAGER_EXCEPTION = "FieldManagerService does not exist";
     public static final String BASE_DATA_EXCEPTION = "BaseDataService does not exist";
     public static final String HUMAN_PLAYER_EXCEPTION = "HumanPlayerService does not exist";
     public static final String COMPUTER_PLAYER_EXCEPTION = "ComputerPlayerService does not exist";
-    private static final String HUMAN_PLAYER_SERVICE = "HumanPlayerService";
-    private static final String COMPUTER_PLAYER_SERVICE = "ComputerPlayerService";
-    private static final String SCENE_MANAGER_SERVICE = "SceneManagerService";
-    private static final String FIELD_MANAGER_SERVICE = "FieldManagerService";
-    private static final String BASE_DATA_SERVICE = "BaseDataService";
+    public static final String GAME_SESSION_EXCEPTION = "GameSessionService does not exist";
+    public static final String SEARCH_RESOURCES_EXCEPTION = "SearchResourcesService does not exist";
+    // Written only while the class is initialised, afterwards it is only read.
+    private static final Map<Class<?>, ServiceDefinition> DEFINITIONS = new HashMap<>();
+
+    static {
+        define(BaseDataService.class, ServiceScope.APPLICATION, container -> new BaseData());
+        define(SearchResourcesService.class, ServiceScope.APPLICATION, container -> new SearchResources(
+                container.requireService(BaseDataService.class, BASE_DATA_EXCEPTION)));
+        define(GameSessionService.class, ServiceScope.GAME, container -> new GameSession());
+        define(FieldManagerService.class, ServiceScope.GAME, container -> new FieldManager(
+                container.requireService(BaseDataService.class, BASE_DATA_EXCEPTION)));
+        define(ComputerPlayerService.class, ServiceScope.GAME, container -> new ComputerPlayer(
+                container.requireService(FieldManagerService.class, FIELD_MANAGER_EXCEPTION),
+                container.requireService(BaseDataService.class, BASE_DATA_EXCEPTION),
+                container.requireService(SearchResourcesService.class, SEARCH_RESOURCES_EXCEPTION)));
+        define(HumanPlayerService.class, ServiceScope.GAME, container -> new HumanPlayer(
+                container.requireService(FieldManagerService.class, FIELD_MANAGER_EXCEPTION),
+                container.requireService(GameSessionService.class, GAME_SESSION_EXCEPTION)));
+        define(SceneManagerService.class, ServiceScope.GAME, container -> new SceneManager(
+                container.requireService(HumanPlayerService.class, HUMAN_PLAYER_EXCEPTION),
+                container.requireService(ComputerPlayerService.class, COMPUTER_PLAYER_EXCEPTION),
+                container.requireService(FieldManagerService.class, FIELD_MANAGER_EXCEPTION),
+                container.requireService(BaseDataService.class, BASE_DATA_EXCEPTION),
+                container.requireService(GameSessionService.class, GAME_SESSION_EXCEPTION)));
+    }
 
+    private final Container parent;
+    private final Cache cache;
 
     public Container() {
+        this(null);
+    }
+
+    private Container(Container parent) {
+        this.parent = parent;
         this.cache = new Cache();
     }
 
+    private static <T extends Service> void define(Class<T> serviceType, ServiceScope scope, Function<Container, T> factory) {
+        DEFINITIONS.put(serviceType, new ServiceDefinition(scope, factory));
+    }
+
+    // Creates the container of a new game, which asks this container for the application services.
+    public Container createGameScope() {
+        return new Container(parent == null ? this : parent);
+    }
+
     public void initializeContainer() {
         this.getService(BaseDataService.class);
         this.getService(FieldManagerService.class);
+        this.getService(GameSessionService.class);
         this.getService(ComputerPlayerService.class);
         this.getService(HumanPlayerService.class);
     }
 
     public <T> Optional<T> getService(Class<T> serviceName) {
-        BaseDataService baseDataService;
-        FieldManagerService fieldManagerService;
+        Optional<T> cachedService = cache.getService(serviceName);
+        if (cachedService.isPresent()) {
+            return cachedService;
+        }
+        ServiceDefinition definition = DEFINITIONS.get(serviceName);
+        if (definition == null) {
+            throw new IllegalStateException("Unexpected Service Name: " + serviceName.getSimpleName());
+        }
+        if (definition.scope == ServiceScope.APPLICATION && parent != null) {
+            return parent.getService(serviceName);
+        }
+        return Optional.of(cache.getOrCreateService(serviceName, () -> serviceName.cast(definition.factory.apply(this))));
+    }
 
-        Optional<Service> serviceCachedOptional = this.cache.getService(serviceName.getSimpleName());
+    private <T> T requireService(Class<T> serviceName, String exceptionMessage) {
+        return getService(serviceName).orElseThrow(() -> new NullPointerException(exceptionMessage));
+    }
 
-        if (serviceCachedOptional.isPresent()) {
-            return (Optional<T>) serviceCachedOptional;
-        }
+    // Replaces the service of the same type, so it has to be called before the services that depend on it are created.
+    public <T extends Service> void addService(Class<T> serviceName, T service) {
+        this.cache.insertOrReplaceService(serviceName, service);
+    }
 
-        switch (serviceName.getSimpleName()) {
-            case HUMAN_PLAYER_SERVICE:
-                fieldManagerService = this.getService(FieldManagerService.class)
-                        .orElseThrow(() -> new NullPointerException(FIELD_MANAGER_EXCEPTION));
-                return (Optional<T>) this.cache.addService(new HumanPlayer(fieldManagerService));
-
-            case COMPUTER_PLAYER_SERVICE:
-                baseDataService = this.getService(BaseDataService.class)
-                        .orElseThrow(() -> new NullPointerException(BASE_DATA_EXCEPTION));
-                fieldManagerService = this.getService(FieldManagerService.class)
-                        .orElseThrow(() -> new NullPointerException(FIELD_MANAGER_EXCEPTION));
-                return (Optional<T>) this.cache.addService(new ComputerPlayer(fieldManagerService, baseDataService));
-
-            case SCENE_MANAGER_SERVICE:
-                baseDataService = this.getService(BaseDataService.class)
-                        .orElseThrow(() -> new NullPointerException(BASE_DATA_EXCEPTION));
-                fieldManagerService = this.getService(FieldManagerService.class)
-                        .orElseThrow(() -> new NullPointerException(FIELD_MANAGER_EXCEPTION));
-                HumanPlayerService humanPlayerService = this.getService(HumanPlayerService.class)
-                        .orElseThrow(() -> new NullPointerException(HUMAN_PLAYER_EXCEPTION));
-                ComputerPlayerService computerPlayerService = this.getService(ComputerPlayerService.class)
-                        .orElseThrow(() -> new NullPointerException(COMPUTER_PLAYER_EXCEPTION));
-                return (Optional<T>) this.cache.addService(new SceneManager(humanPlayerService, computerPlayerService, fieldManagerService, baseDataService));
-
-            case FIELD_MANAGER_SERVICE:
-                baseDataService = this.getService(BaseDataService.class)
-                        .orElseThrow(() -> new NullPointerException(BASE_DATA_EXCEPTION));
-                return (Optional<T>) this.cache.addService(new FieldManager(baseDataService));
-
-            case BASE_DATA_SERVICE:
-                return (Optional<T>) this.cache.addService(new BaseData());
-
-            default:
-                throw new IllegalStateException("Unexpected Service Name: " + serviceName.getSimpleName());
-        }
+    // How long the creation of every service of this container took in nanoseconds, in the order of creation.
+    public Map<Class<?>, Long> getCreationNanos() {
+        return cache.getCreationNanos();
     }
 
-    public void addService(Service service) {
-        Optional<Service> serviceCachedOptional = this.cache.getService(service.getName());
-        serviceCachedOptional.ifPresent(cachedService -> this.cache.addService(service));
+    private static final class ServiceDefinition {
+
+        private final ServiceScope scope;
+        private final Function<Container, ? extends Service> factory;
+
+        private ServiceDefinition(ServiceScope scope, Function<Container, ? extends Service> factory) {
+            this.scope = scope;
+            this.factory = factory;
+        }
     }
 }
@@ -0,0 +1,91 @@
+package checkers.hosting;
+
+import checkers.core.engine.ComputerStrategy;
+import checkers.hosting.interfaces.*;
+
+import java.nio.file.Path;
+
+/**
+ * Represents the configuration data of one computer player that plays without the user interface,
+ * for example in a tournament. The board and the files are the same as in {@link BaseData}.
+ */
+public class PlayerData implements BaseDataService {
+
+    private final BaseDataService baseDataService;
+    private final ComputerStrategy computerStrategy;
+    private final int searchDepth;
+    private final long moveTimeMillis;
+    private final int transpositionTableMegabytes;
+    private final int searchThreads;
+
+    public PlayerData(ComputerStrategy computerStrategy, int searchDepth, long moveTimeMillis,
+                      int transpositionTableMegabytes, int searchThreads) {
+        this.baseDataService = new BaseData();
+        this.computerStrategy = computerStrategy;
+        this.searchDepth = searchDepth;
+        this.moveTimeMillis = moveTimeMillis;
+        this.transpositionTableMegabytes = transpositionTableMegabytes;
+        this.searchThreads = searchThreads;
+    }
+
+    @Override
+    public int getSquareNumber() {
+        return baseDataService.getSquareNumber();
+    }
+
+    @Override
+    public int getSquareSize() {
+        return baseDataService.getSquareSize();
+    }
+
+    @Override
+    public ComputerStrategy getComputerStrategy() {
+        return computerStrategy;
+    }
+
+    @Override
+    public int getSearchDepth() {
+        return searchDepth;
+    }
+
+    @Override
+    public long getMoveTimeMillis() {
+        return moveTimeMillis;
+    }
+
+    @Override
+    public int getTranspositionTableMegabytes() {
+        return transpositionTableMegabytes;
+    }
+
+    @Override
+    public int getSearchThreads() {
+        return searchThreads;
+    }
+
+    @Override
+    public Path getTablebaseDirectory() {
+        return baseDataService.getTablebaseDirectory();
+    }
+
+    @Override
+    public Path getOpeningBookFile() {
+        return baseDataService.getOpeningBookFile();
+    }
+
+    @Override
+    public Path getEvaluationWeightsFile() {
+        return baseDataService.getEvaluationWeightsFile();
+    }
+
+    @Override
+    public String getName() {
+        return BaseDataService.class.getSimpleName();
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerData{" + "strategy: " + computerStrategy + ", depth: " + searchDepth + ", time: " + moveTimeMillis
+                + " ms, table: " + transpositionTableMegabytes + " MB, threads: " + searchThreads + '}';
+    }
+}
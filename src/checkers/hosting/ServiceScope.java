@@ -0,0 +1,11 @@
+package checkers.hosting;
+
+/**
+ * Tells which {@link Container} holds the instance of a service.
+ */
+public enum ServiceScope {
+    // Created once by the application container and shared by all games.
+    APPLICATION,
+    // Created once for every game, by the container of that game.
+    GAME
+}
@@ -1,5 +1,9 @@
 package checkers.hosting.interfaces;
 
+import checkers.core.engine.ComputerStrategy;
+
+import java.nio.file.Path;
+
 /**
  * Enables access to configuration data of the application.
  */
@@ -9,5 +13,21 @@ public interface BaseDataService extends Service {
 
     int getSquareSize();
 
+    ComputerStrategy getComputerStrategy();
+
+    int getSearchDepth();
+
+    long getMoveTimeMillis();
+
+    int getTranspositionTableMegabytes();
+
+    int getSearchThreads();
+
+    Path getTablebaseDirectory();
+
+    Path getOpeningBookFile();
+
+    Path getEvaluationWeightsFile();
+
     String getName();
 }
@@ -1,5 +1,11 @@
 package checkers.hosting.interfaces;
 
+import checkers.core.board.Position;
+import checkers.core.engine.ComputerStrategy;
+import checkers.core.engine.SearchResult;
+
+import java.util.Optional;
+
 /**
  * Enables access to the opponent of the checkers game.
  */
@@ -7,5 +13,21 @@ public interface ComputerPlayerService extends Service {
 
     void computerMove();
 
+    long chooseMove(Position position);
+
+    void playMove(long move);
+
+    void stopSearch();
+
+    void clearSearch();
+
+    void setStrategy(ComputerStrategy strategy);
+
+    ComputerStrategy getStrategy();
+
+    Optional<SearchResult> getLastSearchResult();
+
+    void shutdown();
+
     String getName();
 }
@@ -3,7 +3,8 @@ package checkers.hosting.interfaces;
 import java.util.List;
 import java.util.Optional;
 
-import checkers.core.gui.Piece;
+import checkers.core.board.Piece;
+import checkers.core.board.Position;
 
 /**
  * Allows access to the checkers game board.
@@ -32,5 +33,9 @@ public interface FieldManagerService extends Service {
 
     void setBoard(Piece[][] expectedBoard);
 
+    Position getPosition();
+
+    void setPosition(Position position);
+
     String getName();
 }
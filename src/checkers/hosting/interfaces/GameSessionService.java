@@ -0,0 +1,23 @@
+package checkers.hosting.interfaces;
+
+import checkers.core.board.Position;
+
+/**
+ * Enables access to the state of one running checkers game, which is not shared with any other game.
+ */
+public interface GameSessionService extends Service {
+
+    boolean isHasEaten();
+
+    void setHasEaten(boolean hasEaten);
+
+    // The capture that the human player has started, with the square the piece has reached and the pieces captured so far.
+    long getCapture();
+
+    // The position before the capture, in which the captured pieces still block the way of the capturing piece.
+    Position getCapturePosition();
+
+    void startCapture(Position capturePosition, long capture);
+
+    String getName();
+}
@@ -1,6 +1,6 @@
 package checkers.hosting.interfaces;
 
-import checkers.core.gui.Piece;
+import checkers.core.board.Piece;
 
 import java.util.Optional;
 
@@ -1,6 +1,6 @@
 package checkers.hosting.interfaces;
 
-import checkers.core.gui.Piece;
+import checkers.core.board.Piece;
 import javafx.stage.Stage;
 
 import java.util.List;
@@ -15,6 +15,8 @@ public interface SceneManagerService extends Service {
 
     void updateBoardUI();
 
+    boolean checkGameOver();
+
     boolean checkIfHumanWon(List<Piece> redPieces);
 
     boolean checkIfComputerWon(List<Piece> blackPieces);
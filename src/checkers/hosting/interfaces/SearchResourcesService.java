@@ -0,0 +1,24 @@
+package checkers.hosting.interfaces;
+
+import checkers.core.engine.EndgameTablebase;
+import checkers.core.engine.EvaluationWeights;
+import checkers.core.engine.OpeningBook;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Enables access to the read-only resources of the search, which all games of the application share.
+ */
+public interface SearchResourcesService extends Service {
+
+    EvaluationWeights getEvaluationWeights();
+
+    Optional<EndgameTablebase> getTablebase();
+
+    Optional<OpeningBook> getOpeningBook();
+
+    ExecutorService getSearchHelpers();
+
+    String getName();
+}
@@ -0,0 +1,160 @@
+package checkers.server;
+
+import checkers.core.board.Piece;
+import checkers.hosting.Container;
+import checkers.hosting.interfaces.*;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the connection of one client together with its own game, which lives in a game scope of the server's {@link Container}.
+ *
+ * The server thread reads the commands and plays the moves of the human player. The move of the computer player
+ * runs on a worker, and while it is running the server does not touch the game. The services of the game are only
+ * created when they are first used, so a new connection costs the server thread no more than its game scope and the
+ * computer player with its search is created by the worker of the first computer move.
+ */
+class ClientSession {
+
+    private static final int MAX_LINE_LENGTH = 256;
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final StringBuilder line;
+    private final Queue<ByteBuffer> output;
+    private final Container container;
+    private final AtomicBoolean isComputerPlayerReleased;
+    // The piece that has captured and may capture again, only this piece may move until the turn is over.
+    private Piece capturingPiece;
+    private volatile boolean isComputerMoving;
+    private volatile boolean isClosed;
+    private volatile ComputerPlayerService computerPlayerService;
+    private boolean isQuitting;
+    private boolean isComputerTurn;
+    private boolean isGameOver;
+
+    ClientSession(SocketChannel channel, SelectionKey key, Container applicationContainer) {
+        this.channel = channel;
+        this.key = key;
+        this.line = new StringBuilder();
+        this.output = new ConcurrentLinkedQueue<>();
+        this.container = applicationContainer.createGameScope();
+        this.isComputerPlayerReleased = new AtomicBoolean();
+    }
+
+    SocketChannel getChannel() {
+        return channel;
+    }
+
+    SelectionKey getKey() {
+        return key;
+    }
+
+    // Collects the read characters and returns a complete command line, or null while the line is not finished.
+    String appendInput(char character) {
+        if (character == '\n') {
+            String command = line.toString().trim();
+            line.setLength(0);
+            return command;
+        }
+        if (line.length() >= MAX_LINE_LENGTH) {
+            throw new IllegalArgumentException("Command line is too long");
+        }
+        line.append(character);
+        return null;
+    }
+
+    void send(String reply) {
+        output.add(ByteBuffer.wrap((reply + "\n").getBytes(StandardCharsets.UTF_8)));
+    }
+
+    Queue<ByteBuffer> getOutput() {
+        return output;
+    }
+
+    FieldManagerService getFieldManagerService() {
+        return requireService(FieldManagerService.class, Container.FIELD_MANAGER_EXCEPTION);
+    }
+
+    HumanPlayerService getHumanPlayerService() {
+        return requireService(HumanPlayerService.class, Container.HUMAN_PLAYER_EXCEPTION);
+    }
+
+    // Only a worker asks for the computer player, so its transposition table is never allocated on the server thread.
+    ComputerPlayerService getComputerPlayerService() {
+        if (computerPlayerService == null) {
+            computerPlayerService = requireService(ComputerPlayerService.class, Container.COMPUTER_PLAYER_EXCEPTION);
+        }
+        return computerPlayerService;
+    }
+
+    GameSessionService getGameSessionService() {
+        return requireService(GameSessionService.class, Container.GAME_SESSION_EXCEPTION);
+    }
+
+    private <T> T requireService(Class<T> serviceName, String exceptionMessage) {
+        return container.getService(serviceName).orElseThrow(() -> new NullPointerException(exceptionMessage));
+    }
+
+    Piece getCapturingPiece() {
+        return capturingPiece;
+    }
+
+    void setCapturingPiece(Piece capturingPiece) {
+        this.capturingPiece = capturingPiece;
+    }
+
+    boolean isComputerMoving() {
+        return isComputerMoving;
+    }
+
+    void setComputerMoving(boolean isComputerMoving) {
+        this.isComputerMoving = isComputerMoving;
+    }
+
+    boolean isComputerTurn() {
+        return isComputerTurn;
+    }
+
+    void setComputerTurn(boolean isComputerTurn) {
+        this.isComputerTurn = isComputerTurn;
+    }
+
+    boolean isGameOver() {
+        return isGameOver;
+    }
+
+    void setGameOver(boolean isGameOver) {
+        this.isGameOver = isGameOver;
+    }
+
+    boolean isQuitting() {
+        return isQuitting;
+    }
+
+    void setQuitting(boolean isQuitting) {
+        this.isQuitting = isQuitting;
+    }
+
+    boolean isClosed() {
+        return isClosed;
+    }
+
+    void setClosed(boolean isClosed) {
+        this.isClosed = isClosed;
+    }
+
+    // Both the server thread and a worker may try this when a session closes during a computer move, only one succeeds.
+    // A session that never had a computer move has no computer player to release.
+    void releaseComputerPlayer() {
+        if (isComputerPlayerReleased.compareAndSet(false, true) && computerPlayerService != null) {
+            computerPlayerService.shutdown();
+        }
+    }
+}
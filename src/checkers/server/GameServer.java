@@ -0,0 +1,425 @@
+package checkers.server;
+
+import checkers.core.board.BoardGeometry;
+import checkers.core.board.Piece;
+import checkers.core.board.Piece.PieceColor;
+import checkers.core.board.Position;
+import checkers.core.logic.MoveGenerator;
+import checkers.core.logic.MoveList;
+import checkers.hosting.Container;
+import checkers.hosting.interfaces.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Plays any number of games at once with clients that connect over a socket on the local machine.
+ *
+ * A single thread serves all connections with non-blocking I/O, reads their commands and plays the moves of the
+ * human players. The moves of the computer players are searched on a fixed number of workers, so a slow search
+ * never holds up the other sessions. Computer moves that find no free place in the queue of the workers are refused
+ * with {@code BUSY} and can be requested again with {@code GO}.
+ *
+ * The protocol is line based. The client sends {@code BOARD}, {@code MOVE <fromRow> <fromCol> <toRow> <toCol>},
+ * {@code GO}, {@code NEW}, {@code STATS} or {@code QUIT}. A capture is sent jump by jump, every jump but the last
+ * one is answered with {@code CONTINUE}. The moves are checked with the rules of the board size. The server answers with
+ * {@code BOARD}, {@code OK}, {@code CONTINUE} or {@code COMPUTER} followed by the position in FEN,
+ * with {@code GAMEOVER <winner>}, {@code BUSY}, {@code STATS}, {@code BYE} or {@code ERROR <reason>}.
+ */
+public class GameServer {
+
+    private static final Logger LOGGER = Logger.getLogger(GameServer.class.getName());
+    private static final int READ_BUFFER_SIZE = 1024;
+
+    private final int port;
+    private final BaseDataService playerData;
+    // Every session creates its services lazily in a game scope of this container and shares the application services.
+    private final Container container;
+    private final ThreadPoolExecutor computerPlayers;
+    private final ServerStats stats;
+    // Sessions whose replies were queued by a worker, the server thread has to wait for them to become writable.
+    private final Queue<ClientSession> pendingWrites;
+    private final List<ClientSession> sessions;
+    private final ByteBuffer readBuffer;
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private Thread serverThread;
+    private volatile boolean isRunning;
+
+    /**
+     * @param port          the port on the loopback address, 0 picks a free one
+     * @param playerData    the settings of the computer player of every session
+     * @param workerCount   the number of computer moves that are searched at the same time
+     * @param queueCapacity the number of computer moves that may wait for a free worker
+     */
+    public GameServer(int port, BaseDataService playerData, int workerCount, int queueCapacity) {
+        this.port = port;
+        this.playerData = playerData;
+        this.container = new Container();
+        this.container.addService(BaseDataService.class, playerData);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.computerPlayers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "computer-player-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.stats = new ServerStats();
+        this.pendingWrites = new ConcurrentLinkedQueue<>();
+        this.sessions = new ArrayList<>();
+        this.readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    }
+
+    public void start() throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        isRunning = true;
+        serverThread = new Thread(this::serve, "game-server");
+        serverThread.start();
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public ServerStats getStats() {
+        return stats;
+    }
+
+    // Closes all sessions, computer moves that are still searched are interrupted.
+    public void stop() throws InterruptedException {
+        isRunning = false;
+        selector.wakeup();
+        serverThread.join();
+        computerPlayers.shutdownNow();
+        computerPlayers.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    private void serve() {
+        try {
+            while (isRunning) {
+                selector.select();
+                registerPendingWrites();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    handleKey(key);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "The game server stopped unexpectedly", e);
+        } finally {
+            for (ClientSession session : new ArrayList<>(sessions)) {
+                close(session);
+            }
+            closeQuietly();
+        }
+    }
+
+    private void handleKey(SelectionKey key) {
+        ClientSession session = (ClientSession) key.attachment();
+        try {
+            if (!key.isValid()) {
+                return;
+            }
+            if (key.isAcceptable()) {
+                accept();
+                return;
+            }
+            if (key.isReadable()) {
+                read(session);
+            }
+            if (key.isValid() && key.isWritable()) {
+                write(session);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            if (session != null) {
+                close(session);
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        ClientSession session = new ClientSession(channel, key, container);
+        key.attach(session);
+        sessions.add(session);
+        stats.sessionOpened();
+    }
+
+    private void read(ClientSession session) throws IOException {
+        readBuffer.clear();
+        if (session.getChannel().read(readBuffer) < 0) {
+            close(session);
+            return;
+        }
+        readBuffer.flip();
+        while (readBuffer.hasRemaining() && !session.isQuitting()) {
+            String command = session.appendInput((char) (readBuffer.get() & 0xFF));
+            if (command != null) {
+                handleCommand(session, command);
+            }
+        }
+        requestWrite(session);
+    }
+
+    private void write(ClientSession session) throws IOException {
+        Queue<ByteBuffer> output = session.getOutput();
+        ByteBuffer buffer;
+        while ((buffer = output.peek()) != null) {
+            session.getChannel().write(buffer);
+            if (buffer.hasRemaining()) {
+                return;
+            }
+            output.poll();
+        }
+        if (session.isQuitting()) {
+            close(session);
+            return;
+        }
+        // A worker that queues a reply right now also registers the session again, so no reply is left behind.
+        session.getKey().interestOps(SelectionKey.OP_READ);
+    }
+
+    private void requestWrite(ClientSession session) {
+        SelectionKey key = session.getKey();
+        if (key.isValid() && !session.getOutput().isEmpty()) {
+            key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        }
+    }
+
+    private void registerPendingWrites() {
+        ClientSession session;
+        while ((session = pendingWrites.poll()) != null) {
+            requestWrite(session);
+        }
+    }
+
+    private void handleCommand(ClientSession session, String command) {
+        if (command.isEmpty()) {
+            return;
+        }
+        String[] words = command.split("\\s+");
+        String name = words[0].toUpperCase();
+        if (session.isComputerMoving() && !name.equals("STATS") && !name.equals("QUIT")) {
+            session.send("ERROR The computer is still moving");
+            return;
+        }
+        switch (name) {
+            case "BOARD":
+                session.send("BOARD " + getPosition(session).toFen());
+                break;
+            case "MOVE":
+                handleMove(session, words);
+                break;
+            case "GO":
+                if (isComputerTurn(session)) {
+                    startComputerMove(session);
+                } else {
+                    session.send("ERROR It is not the turn of the computer");
+                }
+                break;
+            case "NEW":
+                handleNewGame(session);
+                break;
+            case "STATS":
+                session.send("STATS " + stats);
+                break;
+            case "QUIT":
+                // The connection is closed as soon as the replies before have been sent.
+                session.send("BYE");
+                session.setQuitting(true);
+                break;
+            default:
+                session.send("ERROR Unknown command: " + words[0]);
+        }
+    }
+
+    private void handleMove(ClientSession session, String[] words) {
+        if (session.isComputerTurn() || session.isGameOver()) {
+            session.send("ERROR It is not your turn");
+            return;
+        }
+        int[] coordinates = parseCoordinates(words);
+        if (coordinates.length == 0) {
+            session.send("ERROR Usage: MOVE <fromRow> <fromCol> <toRow> <toCol>");
+            return;
+        }
+        Optional<Piece> piece = session.getFieldManagerService().getBoardPiece(coordinates[0], coordinates[1]);
+        if (!piece.isPresent() || piece.get().getColor() != PieceColor.BLACK
+                || (session.getCapturingPiece() != null && piece.get() != session.getCapturingPiece())) {
+            session.send("ERROR There is no piece of yours that may move from this square");
+            return;
+        }
+        switch (session.getHumanPlayerService().handleMoveClick(coordinates[2], coordinates[3], piece)) {
+            case 1:
+                stats.addHumanMove();
+                session.setCapturingPiece(piece.get());
+                session.send("CONTINUE " + getPosition(session).toFen());
+                break;
+            case 2:
+                stats.addHumanMove();
+                endHumanTurn(session);
+                break;
+            default:
+                session.send("ERROR Invalid move");
+        }
+    }
+
+    private void endHumanTurn(ClientSession session) {
+        session.setCapturingPiece(null);
+        session.getGameSessionService().setHasEaten(false);
+        session.setComputerTurn(true);
+        session.send("OK " + getPosition(session).toFen());
+        if (checkGameOver(session)) {
+            return;
+        }
+        startComputerMove(session);
+    }
+
+    private void startComputerMove(ClientSession session) {
+        long queuedTime = System.nanoTime();
+        session.setComputerMoving(true);
+        try {
+            computerPlayers.execute(() -> playComputerMove(session, queuedTime));
+        } catch (RejectedExecutionException e) {
+            session.setComputerMoving(false);
+            stats.addRejectedComputerMove();
+            session.send("BUSY");
+        }
+    }
+
+    // Runs on a worker. Until the move has been played, the server thread answers all game commands of the session
+    // with an error, so the game is never touched by two threads at once.
+    private void playComputerMove(ClientSession session, long queuedTime) {
+        long startTime = System.nanoTime();
+        try {
+            if (session.isClosed()) {
+                return;
+            }
+            session.getComputerPlayerService().computerMove();
+            stats.addComputerMove(startTime - queuedTime, System.nanoTime() - startTime);
+            session.setComputerTurn(false);
+            session.send("COMPUTER " + getPosition(session).toFen());
+            checkGameOver(session);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "The computer move failed", e);
+            session.send("ERROR The computer move failed");
+        } finally {
+            session.setComputerMoving(false);
+            if (session.isClosed()) {
+                session.releaseComputerPlayer();
+            }
+            pendingWrites.add(session);
+            selector.wakeup();
+        }
+    }
+
+    private void handleNewGame(ClientSession session) {
+        session.getFieldManagerService().setPosition(
+                Position.createStartingPosition(BoardGeometry.of(playerData.getSquareNumber())));
+        session.getGameSessionService().setHasEaten(false);
+        session.setCapturingPiece(null);
+        session.setComputerTurn(false);
+        session.setGameOver(false);
+        session.send("BOARD " + getPosition(session).toFen());
+    }
+
+    // The side to move has lost when it has no pieces or no legal move left.
+    private boolean checkGameOver(ClientSession session) {
+        Position position = getPosition(session);
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(position, moves);
+        if (!moves.isEmpty()) {
+            return false;
+        }
+        session.setGameOver(true);
+        session.send("GAMEOVER " + MoveGenerator.opposite(position.getSideToMove()));
+        return true;
+    }
+
+    private boolean isComputerTurn(ClientSession session) {
+        return session.isComputerTurn() && !session.isGameOver();
+    }
+
+    private Position getPosition(ClientSession session) {
+        Position position = session.getFieldManagerService().getPosition();
+        position.setSideToMove(session.isComputerTurn() ? PieceColor.RED : PieceColor.BLACK);
+        return position;
+    }
+
+    // Returns an empty array if the arguments are no four coordinates on the board.
+    private int[] parseCoordinates(String[] words) {
+        if (words.length != 5) {
+            return new int[0];
+        }
+        int squareNumber = playerData.getSquareNumber();
+        int[] coordinates = new int[4];
+        for (int i = 0; i < coordinates.length; i++) {
+            try {
+                coordinates[i] = Integer.parseInt(words[i + 1]);
+            } catch (NumberFormatException e) {
+                return new int[0];
+            }
+            if (coordinates[i] < 0 || coordinates[i] >= squareNumber) {
+                return new int[0];
+            }
+        }
+        return coordinates;
+    }
+
+    private void close(ClientSession session) {
+        if (session.isClosed()) {
+            return;
+        }
+        session.setClosed(true);
+        session.getKey().cancel();
+        try {
+            session.getChannel().close();
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "A client connection could not be closed", e);
+        }
+        if (!session.isComputerMoving()) {
+            session.releaseComputerPlayer();
+        }
+        sessions.remove(session);
+        stats.sessionClosed();
+    }
+
+    private void closeQuietly() {
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "The server socket could not be closed", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package checkers.server;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the sessions and moves of a {@link GameServer} and how long the computer moves waited for a free worker.
+ * All counters can be updated from the server thread and the workers at the same time.
+ */
+public class ServerStats {
+
+    private final long startTime;
+    private final AtomicInteger activeSessions;
+    private final AtomicLong totalSessions;
+    private final AtomicLong humanMoves;
+    private final AtomicLong computerMoves;
+    private final AtomicLong rejectedComputerMoves;
+    private final AtomicLong queueNanos;
+    private final AtomicLong maxQueueNanos;
+    private final AtomicLong computerNanos;
+
+    public ServerStats() {
+        startTime = System.nanoTime();
+        activeSessions = new AtomicInteger();
+        totalSessions = new AtomicLong();
+        humanMoves = new AtomicLong();
+        computerMoves = new AtomicLong();
+        rejectedComputerMoves = new AtomicLong();
+        queueNanos = new AtomicLong();
+        maxQueueNanos = new AtomicLong();
+        computerNanos = new AtomicLong();
+    }
+
+    void sessionOpened() {
+        activeSessions.incrementAndGet();
+        totalSessions.incrementAndGet();
+    }
+
+    void sessionClosed() {
+        activeSessions.decrementAndGet();
+    }
+
+    void addHumanMove() {
+        humanMoves.incrementAndGet();
+    }
+
+    void addComputerMove(long waitingNanos, long movingNanos) {
+        computerMoves.incrementAndGet();
+        queueNanos.addAndGet(waitingNanos);
+        maxQueueNanos.accumulateAndGet(waitingNanos, Math::max);
+        computerNanos.addAndGet(movingNanos);
+    }
+
+    void addRejectedComputerMove() {
+        rejectedComputerMoves.incrementAndGet();
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    public long getTotalSessions() {
+        return totalSessions.get();
+    }
+
+    public long getHumanMoves() {
+        return humanMoves.get();
+    }
+
+    public long getComputerMoves() {
+        return computerMoves.get();
+    }
+
+    public long getRejectedComputerMoves() {
+        return rejectedComputerMoves.get();
+    }
+
+    // The moves of both players since the server has been started.
+    public double getMovesPerSecond() {
+        long elapsedNanos = System.nanoTime() - startTime;
+        return elapsedNanos == 0 ? 0 : (humanMoves.get() + computerMoves.get()) * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    // The time a computer move waited in the queue of the workers before it was started.
+    public double getAverageQueueMillis() {
+        long moves = computerMoves.get();
+        return moves == 0 ? 0 : queueNanos.get() / 1_000_000.0 / moves;
+    }
+
+    public double getMaxQueueMillis() {
+        return maxQueueNanos.get() / 1_000_000.0;
+    }
+
+    public double getAverageComputerMoveMillis() {
+        long moves = computerMoves.get();
+        return moves == 0 ? 0 : computerNanos.get() / 1_000_000.0 / moves;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("sessions=%d totalSessions=%d humanMoves=%d computerMoves=%d rejected=%d movesPerSecond=%.1f"
+                        + " queueMillis=%.2f maxQueueMillis=%.2f computerMoveMillis=%.2f",
+                getActiveSessions(), getTotalSessions(), getHumanMoves(), getComputerMoves(), getRejectedComputerMoves(),
+                getMovesPerSecond(), getAverageQueueMillis(), getMaxQueueMillis(), getAverageComputerMoveMillis());
+    }
+}
@@ -1,15 +1,73 @@
 package checkers.test;
 
-import checkers.core.gui.Piece;
+import checkers.core.archive.GameArchive;
+import checkers.core.archive.GameArchiveWriter;
+import checkers.core.archive.PositionIndex;
+import checkers.core.archive.PositionIndexBuilder;
+import checkers.core.archive.PositionOccurrence;
+import checkers.core.archive.PositionStatistics;
+import checkers.core.board.BoardGeometry;
+import checkers.core.board.FieldManager;
+import checkers.core.board.Move;
+import checkers.core.board.Piece;
+import checkers.core.board.Position;
+import checkers.core.board.Zobrist;
+import checkers.core.engine.ComputerStrategy;
+import checkers.core.engine.EndgameTablebase;
+import checkers.core.engine.EvaluationWeights;
+import checkers.core.engine.MaterialEvaluation;
+import checkers.core.engine.MaterialSignature;
+import checkers.core.engine.OpeningBook;
+import checkers.core.engine.OpeningBookBuilder;
+import checkers.core.engine.ParallelSearchEngine;
+import checkers.core.engine.PositionalEvaluation;
+import checkers.core.engine.SearchEngine;
+import checkers.core.engine.SearchResult;
+import checkers.core.engine.TableEntry;
+import checkers.core.engine.TablebaseGenerator;
+import checkers.core.engine.TablebaseResult;
+import checkers.core.engine.TranspositionTable;
 import checkers.core.logic.ComputerPlayer;
+import checkers.core.logic.GameSession;
+import checkers.core.logic.HumanPlayer;
+import checkers.core.logic.MoveGenerator;
+import checkers.core.logic.MoveList;
 import checkers.core.logic.MoveValidation;
+import checkers.core.logic.Perft;
+import checkers.core.logic.Tournament;
+import checkers.core.logic.TournamentResult;
+import checkers.core.pdn.PdnGame;
+import checkers.core.pdn.PdnReader;
+import checkers.core.pdn.PdnWriter;
+import checkers.hosting.BaseData;
 import checkers.hosting.Container;
+import checkers.hosting.PlayerData;
 import checkers.hosting.interfaces.*;
+import checkers.server.GameServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -20,6 +78,7 @@ public class Tests {
     private HumanPlayerService humanPlayerService;
     private ComputerPlayerService computerPlayerService;
     private SceneManagerService sceneManagerService;
+    private GameSessionService gameSessionService;
 
     @BeforeEach
     void setUp() {
@@ -39,20 +98,23 @@ public class Tests {
 
         Optional<SceneManagerService> optionalSceneManagerService = container.getService(SceneManagerService.class);
         sceneManagerService = optionalSceneManagerService.orElseThrow(() -> new NullPointerException(Container.SCENE_MANAGER_EXCEPTION));
+
+        Optional<GameSessionService> optionalGameSessionService = container.getService(GameSessionService.class);
+        gameSessionService = optionalGameSessionService.orElseThrow(() -> new NullPointerException(Container.GAME_SESSION_EXCEPTION));
     }
 
     @Test
     void boardInstantiation_shouldReturnEqualBoards_whenGameIsInitialized() {
         // Arrange
         Piece[][] expectedBoard = {
-                {null, new Piece(0, 1, Piece.PieceColor.RED, baseDataService), null, new Piece(0, 3, Piece.PieceColor.RED, baseDataService), null, new Piece(0, 5, Piece.PieceColor.RED, baseDataService), null, new Piece(0, 7, Piece.PieceColor.RED, baseDataService)},
-                {new Piece(1, 0, Piece.PieceColor.RED, baseDataService), null, new Piece(1, 2, Piece.PieceColor.RED, baseDataService), null, new Piece(1, 4, Piece.PieceColor.RED, baseDataService), null, new Piece(1, 6, Piece.PieceColor.RED, baseDataService), null},
-                {null, new Piece(2, 1, Piece.PieceColor.RED, baseDataService), null, new Piece(2, 3, Piece.PieceColor.RED, baseDataService), null, new Piece(2, 5, Piece.PieceColor.RED, baseDataService), null, new Piece(2, 7, Piece.PieceColor.RED, baseDataService)},
+                {null, new Piece(0, 1, Piece.PieceColor.RED), null, new Piece(0, 3, Piece.PieceColor.RED), null, new Piece(0, 5, Piece.PieceColor.RED), null, new Piece(0, 7, Piece.PieceColor.RED)},
+                {new Piece(1, 0, Piece.PieceColor.RED), null, new Piece(1, 2, Piece.PieceColor.RED), null, new Piece(1, 4, Piece.PieceColor.RED), null, new Piece(1, 6, Piece.PieceColor.RED), null},
+                {null, new Piece(2, 1, Piece.PieceColor.RED), null, new Piece(2, 3, Piece.PieceColor.RED), null, new Piece(2, 5, Piece.PieceColor.RED), null, new Piece(2, 7, Piece.PieceColor.RED)},
                 {null, null, null, null, null, null, null, null},
                 {null, null, null, null, null, null, null, null},
-                {new Piece(5, 0, Piece.PieceColor.BLACK, baseDataService), null, new Piece(5, 2, Piece.PieceColor.BLACK, baseDataService), null, new Piece(5, 4, Piece.PieceColor.BLACK, baseDataService), null, new Piece(5, 6, Piece.PieceColor.BLACK, baseDataService), null},
-                {null, new Piece(6, 1, Piece.PieceColor.BLACK, baseDataService), null, new Piece(6, 3, Piece.PieceColor.BLACK, baseDataService), null, new Piece(6, 5, Piece.PieceColor.BLACK, baseDataService), null, new Piece(6, 7, Piece.PieceColor.BLACK, baseDataService)},
-                {new Piece(7, 0, Piece.PieceColor.BLACK, baseDataService), null, new Piece(7, 2, Piece.PieceColor.BLACK, baseDataService), null, new Piece(7, 4, Piece.PieceColor.BLACK, baseDataService), null, new Piece(7, 6, Piece.PieceColor.BLACK, baseDataService), null}
+                {new Piece(5, 0, Piece.PieceColor.BLACK), null, new Piece(5, 2, Piece.PieceColor.BLACK), null, new Piece(5, 4, Piece.PieceColor.BLACK), null, new Piece(5, 6, Piece.PieceColor.BLACK), null},
+                {null, new Piece(6, 1, Piece.PieceColor.BLACK), null, new Piece(6, 3, Piece.PieceColor.BLACK), null, new Piece(6, 5, Piece.PieceColor.BLACK), null, new Piece(6, 7, Piece.PieceColor.BLACK)},
+                {new Piece(7, 0, Piece.PieceColor.BLACK), null, new Piece(7, 2, Piece.PieceColor.BLACK), null, new Piece(7, 4, Piece.PieceColor.BLACK), null, new Piece(7, 6, Piece.PieceColor.BLACK), null}
         };
 
         // Act
@@ -301,10 +363,10 @@ public class Tests {
         // Arrange
         ArrayList<Piece> blackPieces = new ArrayList<>();
         ArrayList<Piece> redPieces = new ArrayList<>();
-        Piece redPiece = new Piece(1, 0, Piece.PieceColor.RED, baseDataService);
-        Piece blackPieceFirst = new Piece(2, 1, Piece.PieceColor.BLACK, baseDataService);
-        Piece blackPieceSecond = new Piece(4, 3, Piece.PieceColor.BLACK, baseDataService);
-        Piece blackPieceThird = new Piece(6, 5, Piece.PieceColor.BLACK, baseDataService);
+        Piece redPiece = new Piece(1, 0, Piece.PieceColor.RED);
+        Piece blackPieceFirst = new Piece(2, 1, Piece.PieceColor.BLACK);
+        Piece blackPieceSecond = new Piece(4, 3, Piece.PieceColor.BLACK);
+        Piece blackPieceThird = new Piece(6, 5, Piece.PieceColor.BLACK);
         int blackPiecesSizeAfterEating;
         Piece[][] expectedBoard = {
                 {null, null, null, null, null, null, null, null},
@@ -337,8 +399,8 @@ public class Tests {
         // Arrange
         ArrayList<Piece> blackPieces = new ArrayList<>();
         ArrayList<Piece> redPieces = new ArrayList<>();
-        Piece redPiece = new Piece(2, 5, Piece.PieceColor.RED, baseDataService);
-        Piece blackPiece = new Piece(3, 6, Piece.PieceColor.BLACK, baseDataService);
+        Piece redPiece = new Piece(2, 5, Piece.PieceColor.RED);
+        Piece blackPiece = new Piece(3, 6, Piece.PieceColor.BLACK);
         int blackPiecesSizeAfterEating;
         Piece[][] expectedBoard = {
                 {null, null, null, null, null, null, null, null},
@@ -370,10 +432,10 @@ public class Tests {
         // Arrange
         ArrayList<Piece> blackPieces = new ArrayList<>();
         ArrayList<Piece> redPieces = new ArrayList<>();
-        Piece redPiece = new Piece(1, 0, Piece.PieceColor.RED, baseDataService);
-        Piece blackPieceFirst = new Piece(2, 1, Piece.PieceColor.BLACK, baseDataService);
-        Piece blackPieceSecond = new Piece(4, 3, Piece.PieceColor.BLACK, baseDataService);
-        Piece blackPieceThird = new Piece(6, 5, Piece.PieceColor.BLACK, baseDataService);
+        Piece redPiece = new Piece(1, 0, Piece.PieceColor.RED);
+        Piece blackPieceFirst = new Piece(2, 1, Piece.PieceColor.BLACK);
+        Piece blackPieceSecond = new Piece(4, 3, Piece.PieceColor.BLACK);
+        Piece blackPieceThird = new Piece(6, 5, Piece.PieceColor.BLACK);
         boolean isKing;
         Piece[][] expectedBoard = {
                 {null, null, null, null, null, null, null, null},
@@ -406,9 +468,9 @@ public class Tests {
         // Arrange
         ArrayList<Piece> blackPieces = new ArrayList<>();
         ArrayList<Piece> redPieces = new ArrayList<>();
-        Piece redPiece = new Piece(5, 2, Piece.PieceColor.RED, baseDataService);
-        Piece blackPieceFirst = new Piece(6, 3, Piece.PieceColor.BLACK, baseDataService);
-        Piece blackPieceSecond = new Piece(6, 5, Piece.PieceColor.BLACK, baseDataService);
+        Piece redPiece = new Piece(5, 2, Piece.PieceColor.RED);
+        Piece blackPieceFirst = new Piece(6, 3, Piece.PieceColor.BLACK);
+        Piece blackPieceSecond = new Piece(6, 5, Piece.PieceColor.BLACK);
         int blackPiecesSizeAfterEating;
         Piece[][] expectedBoard = {
                 {null, null, null, null, null, null, null, null},
@@ -440,10 +502,10 @@ public class Tests {
         // Arrange
         ArrayList<Piece> blackPieces = new ArrayList<>();
         ArrayList<Piece> redPieces = new ArrayList<>();
-        Piece redPiece = new Piece(3, 0, Piece.PieceColor.RED, baseDataService);
-        Piece blackPieceFirst = new Piece(4, 1, Piece.PieceColor.BLACK, baseDataService);
-        Piece blackPieceSecond = new Piece(6, 3, Piece.PieceColor.BLACK, baseDataService);
-        Piece blackPieceThird = new Piece(6, 5, Piece.PieceColor.BLACK, baseDataService);
+        Piece redPiece = new Piece(3, 0, Piece.PieceColor.RED);
+        Piece blackPieceFirst = new Piece(4, 1, Piece.PieceColor.BLACK);
+        Piece blackPieceSecond = new Piece(6, 3, Piece.PieceColor.BLACK);
+        Piece blackPieceThird = new Piece(6, 5, Piece.PieceColor.BLACK);
         int blackPiecesSizeAfterEating;
         Piece[][] expectedBoard = {
                 {null, null, null, null, null, null, null, null},
@@ -476,10 +538,10 @@ public class Tests {
         // Arrange
         ArrayList<Piece> blackPieces = new ArrayList<>();
         ArrayList<Piece> redPieces = new ArrayList<>();
-        Piece redPieceFirst = new Piece(1, 2, Piece.PieceColor.RED, baseDataService);
-        Piece redPieceSecond = new Piece(3, 6, Piece.PieceColor.RED, baseDataService);
-        Piece redPieceThird = new Piece(1, 4, Piece.PieceColor.RED, baseDataService);
-        Piece blackPiece = new Piece(4, 7, Piece.PieceColor.BLACK, baseDataService);
+        Piece redPieceFirst = new Piece(1, 2, Piece.PieceColor.RED);
+        Piece redPieceSecond = new Piece(3, 6, Piece.PieceColor.RED);
+        Piece redPieceThird = new Piece(1, 4, Piece.PieceColor.RED);
+        Piece blackPiece = new Piece(4, 7, Piece.PieceColor.BLACK);
         int redPiecesSizeAfterEating;
         Piece[][] expectedBoard = {
                 {null, null, null, null, null, null, null, null},
@@ -514,10 +576,10 @@ public class Tests {
         // Arrange
         ArrayList<Piece> blackPieces = new ArrayList<>();
         ArrayList<Piece> redPieces = new ArrayList<>();
-        Piece redPieceFirst = new Piece(1, 2, Piece.PieceColor.RED, baseDataService);
-        Piece redPieceSecond = new Piece(3, 6, Piece.PieceColor.RED, baseDataService);
-        Piece redPieceThird = new Piece(1, 4, Piece.PieceColor.RED, baseDataService);
-        Piece blackPiece = new Piece(4, 7, Piece.PieceColor.BLACK, baseDataService);
+        Piece redPieceFirst = new Piece(1, 2, Piece.PieceColor.RED);
+        Piece redPieceSecond = new Piece(3, 6, Piece.PieceColor.RED);
+        Piece redPieceThird = new Piece(1, 4, Piece.PieceColor.RED);
+        Piece blackPiece = new Piece(4, 7, Piece.PieceColor.BLACK);
         boolean isGameOver;
         Piece[][] expectedBoard = {
                 {null, null, null, null, null, null, null, null},
@@ -541,7 +603,7 @@ public class Tests {
         humanPlayerService.handleMoveClick(2, 5, Optional.of(blackPiece));
         humanPlayerService.handleMoveClick(0, 3, Optional.of(blackPiece));
         humanPlayerService.handleMoveClick(2, 1, Optional.of(blackPiece));
-        MoveValidation.setHasEaten(false);
+        gameSessionService.setHasEaten(false);
         isGameOver = sceneManagerService.checkIfHumanWon(redPieces);
 
         // Assert
@@ -553,10 +615,10 @@ public class Tests {
         // Arrange
         ArrayList<Piece> blackPieces = new ArrayList<>();
         ArrayList<Piece> redPieces = new ArrayList<>();
-        Piece redPiece = new Piece(3, 0, Piece.PieceColor.RED, baseDataService);
-        Piece blackPieceFirst = new Piece(4, 1, Piece.PieceColor.BLACK, baseDataService);
-        Piece blackPieceSecond = new Piece(6, 3, Piece.PieceColor.BLACK, baseDataService);
-        Piece blackPieceThird = new Piece(6, 5, Piece.PieceColor.BLACK, baseDataService);
+        Piece redPiece = new Piece(3, 0, Piece.PieceColor.RED);
+        Piece blackPieceFirst = new Piece(4, 1, Piece.PieceColor.BLACK);
+        Piece blackPieceSecond = new Piece(6, 3, Piece.PieceColor.BLACK);
+        Piece blackPieceThird = new Piece(6, 5, Piece.PieceColor.BLACK);
         boolean isGameOver;
         Piece[][] expectedBoard = {
                 {null, null, null, null, null, null, null, null},
@@ -578,27 +640,61 @@ public class Tests {
 
         // Act
         computerPlayerService.computerMove();
-        MoveValidation.setHasEaten(false);
+        gameSessionService.setHasEaten(false);
         isGameOver = sceneManagerService.checkIfComputerWon(blackPieces);
 
         // Assert
         assertTrue(isGameOver);
     }
 
+    @Test
+    void gameOver_returnTrue_whenHumanPlayerHasPiecesButNoLegalMove() {
+        // Arrange
+        ArrayList<Piece> blackPieces = new ArrayList<>();
+        ArrayList<Piece> redPieces = new ArrayList<>();
+        Piece redPieceFirst = new Piece(3, 2, Piece.PieceColor.RED);
+        Piece redPieceSecond = new Piece(4, 1, Piece.PieceColor.RED);
+        Piece blackPiece = new Piece(5, 0, Piece.PieceColor.BLACK);
+        boolean isGameOver;
+        Piece[][] expectedBoard = {
+                {null, null, null, null, null, null, null, null},
+                {null, null, null, null, null, null, null, null},
+                {null, null, null, null, null, null, null, null},
+                {null, null, redPieceFirst, null, null, null, null, null},
+                {null, redPieceSecond, null, null, null, null, null, null},
+                {blackPiece, null, null, null, null, null, null, null},
+                {null, null, null, null, null, null, null, null},
+                {null, null, null, null, null, null, null, null}
+        };
+        redPieces.add(redPieceFirst);
+        redPieces.add(redPieceSecond);
+        blackPieces.add(blackPiece);
+        fieldManagerService.setRedPieces(redPieces);
+        fieldManagerService.setBlackPieces(blackPieces);
+        fieldManagerService.setBoard(expectedBoard);
+
+        // Act
+        isGameOver = sceneManagerService.checkGameOver();
+
+        // Assert
+        assertTrue(isGameOver);
+    }
+
     @Test
     void cantDoRegularMoveAfterEating_returnTrue_whenHumanEatsOpponentPieceAndTriesToWalkARegularWalkAfterClickingOnSeveralFieldsWhichAreNotMoveableTo() {
         // Arrange
         ArrayList<Piece> blackPieces = new ArrayList<>();
         ArrayList<Piece> redPieces = new ArrayList<>();
-        Piece redPieceFirst = new Piece(3, 6, Piece.PieceColor.RED, baseDataService);
+        Piece redPieceFirst = new Piece(3, 6, Piece.PieceColor.RED);
+        Piece redPieceSecond = new Piece(1, 6, Piece.PieceColor.RED);
         int column = 7;
         int row = 4;
         int columnTest, rowTest;
         boolean isColEqual, isRowEqual;
-        Piece blackPiece = new Piece(row, column, Piece.PieceColor.BLACK, baseDataService);
+        Piece blackPiece = new Piece(row, column, Piece.PieceColor.BLACK);
         Piece[][] expectedBoard = {
                 {null, null, null, null, null, null, null, null},
-                {null, null, null, null, null, null, null, null},
+                {null, null, null, null, null, null, redPieceSecond, null},
                 {null, null, null, null, null, null, null, null},
                 {null, null, null, null, null, null, redPieceFirst, null},
                 {null, null, null, null, null, null, null, blackPiece},
@@ -607,6 +703,7 @@ public class Tests {
                 {null, null, null, null, null, null, null, null}
         };
         redPieces.add(redPieceFirst);
+        redPieces.add(redPieceSecond);
         blackPieces.add(blackPiece);
         fieldManagerService.setRedPieces(redPieces);
         fieldManagerService.setBlackPieces(blackPieces);
@@ -635,7 +732,7 @@ public class Tests {
         int column = 2;
         int row = 5;
         boolean isColEqual, isRowEqual;
-        Piece blackPiece = new Piece(row, column, Piece.PieceColor.BLACK, baseDataService);
+        Piece blackPiece = new Piece(row, column, Piece.PieceColor.BLACK);
         Piece[][] expectedBoard = {
                 {null, null, null, null, null, null, null, null},
                 {null, null, null, null, null, null, null, null},
@@ -667,7 +764,7 @@ public class Tests {
         int column = 0;
         int row = 1;
         boolean isColEqual, isRowEqual;
-        Piece redPiece = new Piece(row, column, Piece.PieceColor.RED, baseDataService);
+        Piece redPiece = new Piece(row, column, Piece.PieceColor.RED);
         Piece[][] expectedBoard = {
                 {null, null, null, null, null, null, null, null},
                 {redPiece, null, null, null, null, null, null, null},
@@ -696,17 +793,17 @@ public class Tests {
     void regularHumanKingMove_returnTrue() {
         // Arrange
         ArrayList<Piece> blackPieces = new ArrayList<>();
-        int column = 6;
+        int column = 5;
         int row = 4;
         boolean isColEqual, isRowEqual;
-        Piece blackPiece = new Piece(row, column, Piece.PieceColor.BLACK, baseDataService);
+        Piece blackPiece = new Piece(row, column, Piece.PieceColor.BLACK);
         blackPiece.makeKing();
         Piece[][] expectedBoard = {
                 {null, null, null, null, null, null, null, null},
                 {null, null, null, null, null, null, null, null},
                 {null, null, null, null, null, null, null, null},
                 {null, null, null, null, null, null, null, null},
-                {null, null, null, null, null, null, blackPiece, null},
+                {null, null, null, null, null, blackPiece, null, null},
                 {null, null, null, null, null, null, null, null},
                 {null, null, null, null, null, null, null, null},
                 {null, null, null, null, null, null, null, null}
@@ -716,7 +813,7 @@ public class Tests {
         fieldManagerService.setBoard(expectedBoard);
 
         // Act
-        humanPlayerService.handleMoveClick(5, 7, Optional.of(blackPiece));
+        humanPlayerService.handleMoveClick(5, 6, Optional.of(blackPiece));
         isColEqual = (column + 1) == blackPiece.getCol();
         isRowEqual = (row + 1) == blackPiece.getRow();
 
@@ -732,7 +829,7 @@ public class Tests {
         int column = 0;
         int row = 7;
         boolean isColEqual, isRowEqual;
-        Piece redPiece = new Piece(row, column, Piece.PieceColor.RED, baseDataService);
+        Piece redPiece = new Piece(row, column, Piece.PieceColor.RED);
         redPiece.makeKing();
         Piece[][] expectedBoard = {
                 {null, null, null, null, null, null, null, null},
@@ -757,4 +854,871 @@ public class Tests {
         assertTrue(isColEqual);
         assertTrue(isRowEqual);
     }
+
+    @Test
+    void positionOfBoard_returnTrue_whenGameIsInitializedAndPositionEqualsStartingPosition() {
+        // Arrange
+        Position expectedPosition = Position.createStartingPosition();
+
+        // Act
+        Position position = fieldManagerService.getPosition();
+
+        // Assert
+        assertEquals(expectedPosition, position);
+        assertEquals(24, position.getPieceCount());
+    }
+
+    @Test
+    void setPosition_returnTrue_whenBoardContainsThePiecesOfThePosition() {
+        // Arrange
+        Position position = new Position();
+        position.setPiece(Position.toSquare(7, 0), Piece.PieceColor.RED, true);
+        position.setPiece(Position.toSquare(4, 1), Piece.PieceColor.BLACK, false);
+        Piece expectedRedPiece = new Piece(7, 0, Piece.PieceColor.RED);
+        expectedRedPiece.makeKing();
+
+        // Act
+        fieldManagerService.setPosition(position);
+
+        // Assert
+        assertEquals(expectedRedPiece, fieldManagerService.getBoardPiece(7, 0).get());
+        assertEquals(1, fieldManagerService.getRedKingPieces().size());
+        assertEquals(1, fieldManagerService.getBlackPieces().size());
+        assertEquals(position, fieldManagerService.getPosition());
+    }
+
+    @Test
+    void searchEngine_returnTrue_whenBestMoveCapturesAllHumanPieces() {
+        // Arrange
+        SearchEngine searchEngine = new SearchEngine(new MaterialEvaluation(), new TranspositionTable(1));
+        Position position = new Position();
+        position.setPiece(Position.toSquare(3, 0), Piece.PieceColor.RED, false);
+        position.setPiece(Position.toSquare(4, 1), Piece.PieceColor.BLACK, false);
+        position.setPiece(Position.toSquare(6, 3), Piece.PieceColor.BLACK, false);
+        position.setPiece(Position.toSquare(6, 5), Piece.PieceColor.BLACK, false);
+        position.setSideToMove(Piece.PieceColor.RED);
+
+        // Act
+        SearchResult searchResult = searchEngine.search(position, 4);
+
+        // Assert
+        assertEquals(3, Long.bitCount(Move.getCapturedPieces(searchResult.getBestMove())));
+        assertTrue(Move.isPromotion(searchResult.getBestMove()));
+        assertTrue(searchResult.getNodes() > 0);
+    }
+
+    @Test
+    void lastSearchResult_returnTrue_whenComputerPlayerHasSearchedItsMove() {
+        // Act
+        computerPlayerService.computerMove();
+
+        // Assert
+        assertTrue(computerPlayerService.getLastSearchResult().isPresent());
+        assertTrue(computerPlayerService.getLastSearchResult().get().getDepth() >= 1);
+        assertTrue(computerPlayerService.getLastSearchResult().get().getDepth() <= baseDataService.getSearchDepth());
+    }
+
+    @Test
+    void moveGenerator_returnSevenMoves_whenGameIsInitialized() {
+        // Arrange
+        MoveList moves = new MoveList();
+
+        // Act
+        MoveGenerator.generateMoves(fieldManagerService.getPosition(), Piece.PieceColor.BLACK, moves);
+
+        // Assert
+        assertEquals(7, moves.size());
+    }
+
+    @Test
+    void moveGenerator_returnOnlyTheCompleteCapture_whenComputerPlayerCanCaptureThreePieces() {
+        // Arrange
+        MoveList moves = new MoveList();
+        Position position = new Position();
+        position.setPiece(Position.toSquare(1, 0), Piece.PieceColor.RED, false);
+        position.setPiece(Position.toSquare(1, 4), Piece.PieceColor.RED, false);
+        position.setPiece(Position.toSquare(2, 1), Piece.PieceColor.BLACK, false);
+        position.setPiece(Position.toSquare(4, 3), Piece.PieceColor.BLACK, false);
+        position.setPiece(Position.toSquare(6, 5), Piece.PieceColor.BLACK, false);
+
+        // Act
+        MoveGenerator.generateMoves(position, Piece.PieceColor.RED, moves);
+
+        // Assert
+        assertEquals(1, moves.size());
+        assertEquals(Position.toSquare(7, 6), Move.getTo(moves.get(0)));
+        assertEquals(3, Long.bitCount(Move.getCapturedPieces(moves.get(0))));
+    }
+
+    @Test
+    void captureIsValid_returnTrue_whenValidationDoesNotChangeTheCaptureState() {
+        // Arrange
+        Piece humanPiece = new Piece(4, 3, Piece.PieceColor.BLACK);
+        Piece redPiece = new Piece(3, 2, Piece.PieceColor.RED);
+        Piece[][] expectedBoard = new Piece[8][8];
+        expectedBoard[4][3] = humanPiece;
+        expectedBoard[3][2] = redPiece;
+        fieldManagerService.setBoard(expectedBoard);
+        gameSessionService.setHasEaten(false);
+
+        // Act
+        boolean isCaptureValid = MoveValidation.isCaptureValid(humanPiece, 2, 1, 4, 3, fieldManagerService);
+
+        // Assert
+        assertTrue(isCaptureValid);
+        assertFalse(gameSessionService.isHasEaten());
+    }
+
+    @Test
+    void captureThreePieces_returnTrue_whenGreedyComputerPlayerEatsAllThreeHumanPieces() {
+        // Arrange
+        Position position = new Position();
+        position.setPiece(Position.toSquare(1, 0), Piece.PieceColor.RED, false);
+        position.setPiece(Position.toSquare(2, 1), Piece.PieceColor.BLACK, false);
+        position.setPiece(Position.toSquare(4, 3), Piece.PieceColor.BLACK, false);
+        position.setPiece(Position.toSquare(6, 5), Piece.PieceColor.BLACK, false);
+        fieldManagerService.setPosition(position);
+        computerPlayerService.setStrategy(ComputerStrategy.GREEDY);
+
+        // Act
+        computerPlayerService.computerMove();
+
+        // Assert
+        assertEquals(0, fieldManagerService.getBlackPieces().size());
+        assertTrue(fieldManagerService.getBoardPiece(7, 6).get().isKing());
+    }
+
+    @Test
+    void unmakeMove_returnTrue_whenCaptureAndPromotionAreTakenBack() {
+        // Arrange
+        MoveList moves = new MoveList();
+        Position position = new Position();
+        position.setPiece(Position.toSquare(3, 0), Piece.PieceColor.RED, false);
+        position.setPiece(Position.toSquare(4, 1), Piece.PieceColor.BLACK, false);
+        position.setPiece(Position.toSquare(6, 3), Piece.PieceColor.BLACK, true);
+        position.setPiece(Position.toSquare(6, 5), Piece.PieceColor.BLACK, false);
+        position.setSideToMove(Piece.PieceColor.RED);
+        Position expectedPosition = position.copy();
+        MoveGenerator.generateMoves(position, moves);
+
+        // Act
+        position.makeMove(moves.get(0));
+        boolean isChanged = !position.equals(expectedPosition);
+        boolean isBlackToMove = position.getSideToMove() == Piece.PieceColor.BLACK;
+        position.unmakeMove();
+
+        // Assert
+        assertTrue(isChanged);
+        assertTrue(isBlackToMove);
+        assertEquals(expectedPosition, position);
+        assertEquals(0, position.getPlayedMoveCount());
+    }
+
+    @Test
+    void positionHash_returnTrue_whenIncrementalHashEqualsComputedHashAfterSeveralMoves() {
+        // Arrange
+        MoveList moves = new MoveList();
+        Position position = Position.createStartingPosition();
+        long startingHash = position.getHash();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            MoveGenerator.generateMoves(position, moves);
+            position.makeMove(moves.get(moves.size() - 1));
+        }
+        long computedHash = Zobrist.computeHash(position.getRedPieces(), position.getBlackPieces(),
+                position.getKingPieces(), position.getSideToMove());
+        long incrementalHash = position.getHash();
+        for (int i = 0; i < 20; i++) {
+            position.unmakeMove();
+        }
+
+        // Assert
+        assertEquals(computedHash, incrementalHash);
+        assertEquals(startingHash, position.getHash());
+    }
+
+    @Test
+    void transpositionTable_returnTrue_whenDeeperEntryIsNotReplacedByShallowerSearch() {
+        // Arrange
+        TranspositionTable transpositionTable = new TranspositionTable(1);
+        TableEntry tableEntry = new TableEntry();
+        long hash = 42L;
+        long otherHash = hash + transpositionTable.getSize();
+
+        // Act
+        transpositionTable.store(hash, Move.NONE, 120, 6, TranspositionTable.EXACT);
+        transpositionTable.store(otherHash, Move.NONE, -50, 2, TranspositionTable.LOWER_BOUND);
+        boolean isFound = transpositionTable.probe(hash, tableEntry);
+        boolean isOtherFound = transpositionTable.probe(otherHash, new TableEntry());
+
+        // Assert
+        assertTrue(isFound);
+        assertFalse(isOtherFound);
+        assertEquals(120, tableEntry.getScore());
+        assertEquals(6, tableEntry.getDepth());
+    }
+
+    @Test
+    void iterativeDeepening_returnTrue_whenSearchWithoutTimeLeftStopsAfterTheFirstDepths() {
+        // Arrange
+        SearchEngine searchEngine = new SearchEngine(new MaterialEvaluation(), new TranspositionTable(1));
+        // The time is up at once, so the search only depends on the counted nodes and not on the speed of the machine.
+        long timeMillis = 0;
+
+        // Act
+        SearchResult searchResult = searchEngine.search(Position.createStartingPosition(), SearchEngine.MAX_PLY, timeMillis);
+
+        // Assert
+        assertNotEquals(Move.NONE, searchResult.getBestMove());
+        assertTrue(searchResult.getDepth() >= 1);
+        assertTrue(searchResult.getDepth() < SearchEngine.MAX_PLY);
+    }
+
+    @Test
+    void searchEngine_returnTrue_whenSearchOnAnInterruptedThreadStopsBeforeItsLastDepth() {
+        // Arrange
+        SearchEngine searchEngine = new SearchEngine(new MaterialEvaluation(), new TranspositionTable(1));
+        Thread.currentThread().interrupt();
+
+        // Act
+        SearchResult searchResult;
+        try {
+            searchResult = searchEngine.search(Position.createStartingPosition(), SearchEngine.MAX_PLY, SearchEngine.NO_TIME_LIMIT);
+        } finally {
+            Thread.interrupted();
+        }
+
+        // Assert
+        assertNotEquals(Move.NONE, searchResult.getBestMove());
+        assertTrue(searchResult.getDepth() < SearchEngine.MAX_PLY);
+    }
+
+    @Test
+    void quiescenceSearch_returnTrue_whenRecaptureBehindTheHorizonTakesTheWonManBack() {
+        // Arrange
+        SearchEngine searchEngine = new SearchEngine(new PositionalEvaluation(EvaluationWeights.DEFAULT), new TranspositionTable(1));
+        Position position = new Position();
+        position.setPiece(Position.toSquare(0, 7), Piece.PieceColor.RED, false);
+        position.setPiece(Position.toSquare(2, 1), Piece.PieceColor.RED, false);
+        position.setPiece(Position.toSquare(3, 2), Piece.PieceColor.BLACK, false);
+        position.setPiece(Position.toSquare(5, 4), Piece.PieceColor.BLACK, false);
+        position.setPiece(Position.toSquare(6, 5), Piece.PieceColor.BLACK, false);
+        position.setSideToMove(Piece.PieceColor.RED);
+
+        // Act
+        SearchResult searchResult = searchEngine.search(position, 1);
+
+        // Assert
+        assertTrue(Move.isCapture(searchResult.getBestMove()));
+        assertTrue(searchResult.getQuiescenceNodes() > 0);
+        assertTrue(searchResult.getSelectiveDepth() > searchResult.getDepth());
+        assertTrue(searchResult.getScore() < 0);
+    }
+
+    @Test
+    void moveOrdering_returnTrue_whenMostCutoffsAreCausedByTheFirstMove() {
+        // Arrange
+        SearchEngine searchEngine = new SearchEngine(new MaterialEvaluation(), new TranspositionTable(1));
+        Position position = Position.createStartingPosition();
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(position, moves);
+
+        // Act
+        SearchResult searchResult = searchEngine.search(position, 8);
+
+        // Assert
+        assertTrue(moves.contains(searchResult.getBestMove()));
+        assertTrue(searchResult.getCutoffs() > 0);
+        assertTrue(searchResult.getFirstMoveCutoffs() <= searchResult.getCutoffs());
+        assertTrue(searchResult.getFirstMoveCutoffRate() > 0.5);
+    }
+
+    @Test
+    void parallelSearch_returnTrue_whenFourThreadsReturnALegalMoveOfTheMainThread() {
+        // Arrange
+        ParallelSearchEngine searchEngine = new ParallelSearchEngine(new MaterialEvaluation(), new TranspositionTable(1), 4);
+        Position position = Position.createStartingPosition();
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(position, moves);
+
+        // Act
+        SearchResult searchResult = searchEngine.search(position, SearchEngine.MAX_PLY, 300);
+        searchEngine.shutdown();
+
+        // Assert
+        assertTrue(moves.contains(searchResult.getBestMove()));
+        assertTrue(searchResult.getDepth() >= 1);
+        assertTrue(searchResult.getNodes() > 0);
+    }
+
+    @Test
+    void perft_returnTrue_whenLeafCountsOfTheStartingPositionMatchTheKnownCounts() {
+        // Arrange
+        Perft perft = new Perft();
+        Position position = Position.createStartingPosition();
+        long[] expectedCounts = {7, 49, 302, 1469, 7361, 36768};
+
+        // Act & Assert
+        for (int depth = 1; depth <= expectedCounts.length; depth++) {
+            assertEquals(expectedCounts[depth - 1], perft.count(position, depth));
+        }
+        assertEquals(Position.createStartingPosition(), position);
+    }
+
+    @Test
+    void perftDivide_returnTrue_whenCountsOfAllMovesAddUpToTheTotalCount() {
+        // Arrange
+        Perft perft = new Perft();
+        Position position = Position.fromFen("R:RK1,10:B14,15,K30");
+
+        // Act
+        long total = perft.divide(position, 4).values().stream().mapToLong(Long::longValue).sum();
+
+        // Assert
+        assertEquals(perft.count(position, 4), total);
+    }
+
+    @Test
+    void perft_returnTrue_whenLeafCountsOfTheInternationalStartingPositionMatchTheKnownCounts() {
+        // Arrange
+        Perft perft = new Perft();
+        Position position = Position.createStartingPosition(BoardGeometry.INTERNATIONAL);
+        long[] expectedCounts = {9, 81, 658, 4265, 27117};
+
+        // Act & Assert
+        for (int depth = 1; depth <= expectedCounts.length; depth++) {
+            assertEquals(expectedCounts[depth - 1], perft.count(position, depth));
+        }
+    }
+
+    @Test
+    void moveGenerator_returnOnlyTheLongestCaptures_whenFlyingKingCanCaptureMorePiecesThanAMan() {
+        // Arrange
+        BoardGeometry geometry = BoardGeometry.INTERNATIONAL;
+        MoveList moves = new MoveList();
+        Position position = new Position(geometry);
+        position.setPiece(geometry.toSquare(9, 0), Piece.PieceColor.BLACK, true);
+        position.setPiece(geometry.toSquare(9, 8), Piece.PieceColor.BLACK, false);
+        position.setPiece(geometry.toSquare(6, 3), Piece.PieceColor.RED, false);
+        position.setPiece(geometry.toSquare(3, 2), Piece.PieceColor.RED, false);
+        position.setPiece(geometry.toSquare(8, 7), Piece.PieceColor.RED, false);
+        long capturedPieces = (1L << geometry.toSquare(6, 3)) | (1L << geometry.toSquare(3, 2));
+
+        // Act
+        MoveGenerator.generateMoves(position, moves);
+
+        // Assert
+        assertEquals(2, moves.size());
+        assertTrue(moves.contains(Move.encode(geometry.toSquare(9, 0), geometry.toSquare(2, 1), capturedPieces, false)));
+        assertTrue(moves.contains(Move.encode(geometry.toSquare(9, 0), geometry.toSquare(1, 0), capturedPieces, false)));
+    }
+
+    @Test
+    void humanPlayer_returnTrue_whenManOnTheInternationalBoardMustTakeTheLongestCaptureBackwards() {
+        // Arrange
+        BoardGeometry geometry = BoardGeometry.INTERNATIONAL;
+        FieldManagerService internationalFieldManager = new FieldManager(new BaseData() {
+            @Override
+            public int getSquareNumber() {
+                return geometry.getBoardSize();
+            }
+        });
+        HumanPlayerService internationalHumanPlayer = new HumanPlayer(internationalFieldManager, new GameSession());
+        Position position = new Position(geometry);
+        position.setPiece(geometry.toSquare(5, 4), Piece.PieceColor.BLACK, false);
+        position.setPiece(geometry.toSquare(4, 3), Piece.PieceColor.RED, false);
+        position.setPiece(geometry.toSquare(6, 5), Piece.PieceColor.RED, false);
+        position.setPiece(geometry.toSquare(8, 7), Piece.PieceColor.RED, false);
+        internationalFieldManager.setPosition(position);
+        Optional<Piece> blackPiece = internationalFieldManager.getBoardPiece(5, 4);
+
+        // Act
+        int shorterCapture = internationalHumanPlayer.handleMoveClick(3, 2, blackPiece);
+        int firstJump = internationalHumanPlayer.handleMoveClick(7, 6, blackPiece);
+        int secondJump = internationalHumanPlayer.handleMoveClick(9, 8, blackPiece);
+
+        // Assert
+        assertEquals(0, shorterCapture);
+        assertEquals(1, firstJump);
+        assertEquals(2, secondJump);
+        assertEquals(blackPiece, internationalFieldManager.getBoardPiece(9, 8));
+        assertFalse(blackPiece.get().isKing());
+        assertEquals(1, internationalFieldManager.getRedPieces().size());
+    }
+
+    @Test
+    void fen_returnTrue_whenPositionIsReadBackFromItsOwnFen() {
+        // Arrange
+        Position position = Position.fromFen("R:RK1,10:B14,15,K30");
+
+        // Act
+        Position readPosition = Position.fromFen(position.toFen());
+
+        // Assert
+        assertEquals(position, readPosition);
+        assertEquals("R:RK1,10:B14,15,K30", readPosition.toFen());
+        assertTrue(readPosition.isKing(29));
+    }
+
+    @Test
+    void materialSignature_returnTrue_whenEveryPositionIsFoundAtItsOwnIndex() {
+        // Arrange
+        MaterialSignature signature = new MaterialSignature(1, 1, 1, 0);
+        Position position = new Position();
+        int validPositions = 0;
+
+        // Act & Assert
+        for (long index = 0; index < signature.getPositionCount(); index++) {
+            if (signature.setPosition(index, position)) {
+                validPositions++;
+                assertEquals(signature, MaterialSignature.of(position));
+                assertEquals(index, signature.getIndex(position));
+            }
+        }
+        // 28 * 31 placements of the red pieces, each with 26 or 27 squares left for the black man, for both sides to move.
+        assertEquals(45600, validPositions);
+    }
+
+    @Test
+    void endgameTablebase_returnTrue_whenTwoKingsWinAgainstOneKingAndOneKingDrawsAgainstOneKing(@TempDir Path directory) throws IOException {
+        // Arrange
+        TablebaseGenerator generator = new TablebaseGenerator(directory);
+
+        // Act
+        generator.generate(3);
+        EndgameTablebase tablebase = new EndgameTablebase(directory);
+
+        // Assert
+        assertEquals(3, tablebase.getMaxPieces());
+        assertEquals(Optional.of(TablebaseResult.WIN), tablebase.probe(Position.fromFen("R:RK1,K2:BK32")));
+        assertEquals(Optional.of(TablebaseResult.LOSS), tablebase.probe(Position.fromFen("B:RK1,K2:BK32")));
+        assertEquals(Optional.of(TablebaseResult.DRAW), tablebase.probe(Position.fromFen("R:RK1:BK32")));
+        assertEquals(Optional.empty(), tablebase.probe(Position.fromFen("R:RK1,K2:BK31,K32")));
+    }
+
+    @Test
+    void searchEngine_returnTrue_whenTablebaseKeepsOnlyWinningMoves(@TempDir Path directory) throws IOException {
+        // Arrange
+        TablebaseGenerator generator = new TablebaseGenerator(directory);
+        generator.generate(3);
+        SearchEngine searchEngine = new SearchEngine(new MaterialEvaluation(), new TranspositionTable(1));
+        searchEngine.setTablebase(generator.getTablebase());
+        Position position = Position.fromFen("R:RK1,K2:BK32");
+
+        // Act
+        SearchResult searchResult = searchEngine.search(position, 4);
+        position.makeMove(searchResult.getBestMove());
+
+        // Assert
+        assertEquals(Optional.of(TablebaseResult.LOSS), generator.getTablebase().probe(position));
+    }
+
+    @Test
+    void positionalEvaluation_returnTrue_whenIncrementalPieceScoreMatchesTheFullPieceScoreAfterEveryMove() {
+        // Arrange
+        PositionalEvaluation evaluation = new PositionalEvaluation(EvaluationWeights.DEFAULT);
+        Random random = new Random(11);
+        MoveList moves = new MoveList();
+
+        for (BoardGeometry geometry : new BoardGeometry[]{BoardGeometry.STANDARD, BoardGeometry.INTERNATIONAL}) {
+            Position position = Position.createStartingPosition(geometry);
+            int pieceScore = evaluation.getPieceScore(position);
+            MoveGenerator.generateMoves(position, moves);
+            while (!moves.isEmpty() && position.getPlayedMoveCount() < 300) {
+                // Act
+                long move = moves.get(random.nextInt(moves.size()));
+                pieceScore += evaluation.getMoveDelta(position, move);
+                position.makeMove(move);
+                MoveGenerator.generateMoves(position, moves);
+
+                // Assert
+                assertEquals(evaluation.getPieceScore(position), pieceScore);
+                assertEquals(evaluation.evaluate(position), evaluation.evaluate(position, pieceScore));
+            }
+        }
+    }
+
+    @Test
+    void boardGeometry_returnTrue_whenNeighboursOfABitboardAreTheNeighboursOfItsSquares() {
+        for (BoardGeometry geometry : new BoardGeometry[]{BoardGeometry.STANDARD, BoardGeometry.INTERNATIONAL}) {
+            for (int direction = 0; direction < BoardGeometry.DIRECTION_COUNT; direction++) {
+                // Arrange
+                long[] expectedNeighbours = new long[geometry.getSquareCount()];
+                long expectedAllNeighbours = 0;
+                for (int square = 0; square < geometry.getSquareCount(); square++) {
+                    int neighbour = geometry.getNeighbour(direction, square);
+                    expectedNeighbours[square] = neighbour < 0 ? 0L : 1L << neighbour;
+                    expectedAllNeighbours |= expectedNeighbours[square];
+                }
+
+                // Act
+                long[] neighbours = new long[geometry.getSquareCount()];
+                for (int square = 0; square < geometry.getSquareCount(); square++) {
+                    neighbours[square] = geometry.getNeighbours(direction, 1L << square);
+                }
+                long allNeighbours = geometry.getNeighbours(direction, geometry.getAllSquares());
+
+                // Assert
+                assertArrayEquals(expectedNeighbours, neighbours);
+                assertEquals(expectedAllNeighbours, allNeighbours);
+            }
+        }
+    }
+
+    @Test
+    void positionalEvaluation_returnTrue_whenTheScoreOnlyChangesItsSignWithTheSideToMove() {
+        // Arrange
+        PositionalEvaluation evaluation = new PositionalEvaluation(EvaluationWeights.DEFAULT);
+        Position position = Position.createStartingPosition(BoardGeometry.STANDARD);
+        position.makeMove(Move.encode(21, 17, 0, false));
+
+        // Act
+        position.setSideToMove(Piece.PieceColor.BLACK);
+        int blackScore = evaluation.evaluate(position);
+        position.setSideToMove(Piece.PieceColor.RED);
+        int redScore = evaluation.evaluate(position);
+
+        // Assert
+        assertEquals(-redScore, blackScore);
+    }
+
+    @Test
+    void evaluationWeights_returnTrue_whenFileChangesOnlyTheWeightsItNames(@TempDir Path directory) throws IOException {
+        // Arrange
+        Path file = directory.resolve("evaluation.properties");
+        Files.write(file, Arrays.asList("# stronger kings", "king = 150", "mobility=0"), StandardCharsets.ISO_8859_1);
+
+        // Act
+        EvaluationWeights weights = EvaluationWeights.load(file);
+
+        // Assert
+        assertEquals(150, weights.getKing());
+        assertEquals(0, weights.getMobility());
+        assertEquals(EvaluationWeights.DEFAULT.getMan(), weights.getMan());
+        assertEquals(EvaluationWeights.DEFAULT.getTempo(), weights.getTempo());
+    }
+
+    @Test
+    void openingBook_returnTrue_whenWeightsOfTheWrittenMovesAreReadBack(@TempDir Path directory) throws IOException {
+        // Arrange
+        Position position = Position.createStartingPosition();
+        MoveList moves = new MoveList();
+        MoveGenerator.generateMoves(position, moves);
+        OpeningBookBuilder builder = new OpeningBookBuilder();
+        builder.add(position, moves.get(0), 2);
+        builder.add(position, moves.get(0), 1);
+        builder.add(position, moves.get(1), 1);
+        Path file = directory.resolve("opening.book");
+
+        // Act
+        builder.write(file);
+        OpeningBook openingBook = new OpeningBook(file);
+        OptionalLong bookMove = openingBook.chooseMove(position, new Random(1));
+
+        // Assert
+        assertEquals(2, openingBook.getEntryCount());
+        assertEquals(3, openingBook.getWeight(position, moves.get(0)));
+        assertEquals(1, openingBook.getWeight(position, moves.get(1)));
+        assertEquals(0, openingBook.getWeight(position, moves.get(2)));
+        assertTrue(bookMove.isPresent());
+        assertTrue(bookMove.getAsLong() == moves.get(0) || bookMove.getAsLong() == moves.get(1));
+    }
+
+    @Test
+    void openingBook_returnTrue_whenSelfPlayBookHasALegalMoveForEveryPlyOfItsGames(@TempDir Path directory) throws IOException {
+        // Arrange
+        OpeningBookBuilder builder = new OpeningBookBuilder();
+        builder.addSelfPlayGames(3, 4, 3, 42);
+        Path file = directory.resolve("opening.book");
+        builder.write(file);
+        OpeningBook openingBook = new OpeningBook(file);
+        Position position = Position.createStartingPosition();
+        Random random = new Random(7);
+        MoveList moves = new MoveList();
+
+        // Act & Assert
+        for (int ply = 0; ply < 4; ply++) {
+            OptionalLong bookMove = openingBook.chooseMove(position, random);
+            assertTrue(bookMove.isPresent());
+            MoveGenerator.generateMoves(position, moves);
+            assertTrue(moves.contains(bookMove.getAsLong()));
+            position.makeMove(bookMove.getAsLong());
+        }
+    }
+
+    @Test
+    void mirror_returnTrue_whenMirroredPositionHasTheSameMovesSeenFromTheOtherSide() {
+        // Arrange
+        Position position = Position.fromFen("B:RK1,10:B14,15,K30");
+        MoveList moves = new MoveList();
+        MoveList mirroredMoves = new MoveList();
+
+        // Act
+        Position mirroredPosition = position.mirror();
+        MoveGenerator.generateMoves(position, moves);
+        MoveGenerator.generateMoves(mirroredPosition, mirroredMoves);
+
+        // Assert
+        assertEquals("R:RK3,18,19:B23,K32", mirroredPosition.toFen());
+        assertEquals(position, mirroredPosition.mirror());
+        assertEquals(moves.size(), mirroredMoves.size());
+    }
+
+    @Test
+    void tournament_returnTrue_whenAllGamesBetweenGreedyAndAlphaBetaPlayerAreCounted() {
+        // Arrange
+        PlayerData greedyPlayerData = new PlayerData(ComputerStrategy.GREEDY, 1, SearchEngine.NO_TIME_LIMIT, 1, 1);
+        PlayerData alphaBetaPlayerData = new PlayerData(ComputerStrategy.ALPHA_BETA, 3, SearchEngine.NO_TIME_LIMIT, 1, 1);
+        Tournament tournament = new Tournament(greedyPlayerData, alphaBetaPlayerData, 2, 60);
+
+        // Act
+        TournamentResult result = tournament.play(4, 2, 3);
+
+        // Assert
+        assertEquals(4, result.getGameCount());
+        assertEquals(4, result.getWins() + result.getDraws() + result.getLosses());
+        assertTrue(result.getMoveCount(TournamentResult.FIRST_PLAYER) > 0);
+        assertTrue(result.getMoveCount(TournamentResult.SECOND_PLAYER) > 0);
+        assertEquals(0, result.getNodesPerSecond(TournamentResult.FIRST_PLAYER));
+        assertTrue(result.getNodesPerSecond(TournamentResult.SECOND_PLAYER) > 0);
+    }
+
+    @Test
+    void gameSession_returnTrue_whenCaptureOfOneGameDoesNotContinueTheCaptureOfAnotherGame() {
+        // Arrange
+        Container otherContainer = new Container();
+        otherContainer.initializeContainer();
+        GameSessionService otherGameSessionService = otherContainer.getService(GameSessionService.class)
+                .orElseThrow(() -> new NullPointerException(Container.GAME_SESSION_EXCEPTION));
+        Piece blackPiece = new Piece(4, 3, Piece.PieceColor.BLACK);
+        Piece redPiece = new Piece(3, 2, Piece.PieceColor.RED);
+        Piece[][] board = new Piece[8][8];
+        board[4][3] = blackPiece;
+        board[3][2] = redPiece;
+        board[1][2] = new Piece(1, 2, Piece.PieceColor.RED);
+        fieldManagerService.setBoard(board);
+
+        // Act
+        int move = humanPlayerService.handleMoveClick(2, 1, Optional.of(blackPiece));
+
+        // Assert
+        assertEquals(1, move);
+        assertTrue(gameSessionService.isHasEaten());
+        assertFalse(otherGameSessionService.isHasEaten());
+    }
+
+    @Test
+    void container_returnTrue_whenGamesShareTheApplicationServicesAndCreateTheirOwnServicesOnlyOnce() throws Exception {
+        // Arrange
+        Container applicationContainer = new Container();
+        Container firstGame = applicationContainer.createGameScope();
+        Container secondGame = applicationContainer.createGameScope();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<FieldManagerService>> futures = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> firstGame.getService(FieldManagerService.class).orElseThrow()));
+        }
+        FieldManagerService secondFieldManagerService = secondGame.getService(FieldManagerService.class).orElseThrow();
+        executor.shutdown();
+
+        // Assert
+        for (Future<FieldManagerService> future : futures) {
+            assertSame(futures.get(0).get(), future.get());
+        }
+        assertNotSame(futures.get(0).get(), secondFieldManagerService);
+        assertSame(firstGame.getService(BaseDataService.class).orElseThrow(), secondGame.getService(BaseDataService.class).orElseThrow());
+        assertTrue(firstGame.getCreationNanos().containsKey(FieldManagerService.class));
+        assertFalse(firstGame.getCreationNanos().containsKey(BaseDataService.class));
+        assertTrue(applicationContainer.getCreationNanos().containsKey(BaseDataService.class));
+    }
+
+    @Test
+    void container_returnTrue_whenComputerPlayersOfTwoGamesShareTheSearchResources() {
+        // Arrange
+        Container applicationContainer = new Container();
+        Container firstGame = applicationContainer.createGameScope();
+        Container secondGame = applicationContainer.createGameScope();
+
+        // Act
+        ComputerPlayerService firstComputerPlayer = firstGame.getService(ComputerPlayerService.class).orElseThrow();
+        ComputerPlayerService secondComputerPlayer = secondGame.getService(ComputerPlayerService.class).orElseThrow();
+
+        // Assert
+        assertNotSame(firstComputerPlayer, secondComputerPlayer);
+        assertSame(firstGame.getService(SearchResourcesService.class).orElseThrow(),
+                secondGame.getService(SearchResourcesService.class).orElseThrow());
+        assertFalse(firstGame.getCreationNanos().containsKey(SearchResourcesService.class));
+        assertTrue(applicationContainer.getCreationNanos().containsKey(SearchResourcesService.class));
+    }
+
+    @Test
+    void gameServer_returnTrue_whenTwoSessionsPlayTheirMovesIndependently() throws IOException, InterruptedException {
+        // Arrange
+        PlayerData playerData = new PlayerData(ComputerStrategy.ALPHA_BETA, 2, SearchEngine.NO_TIME_LIMIT, 1, 1);
+        GameServer server = new GameServer(0, playerData, 2, 4);
+        server.start();
+
+        try (Socket firstSocket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+             Socket secondSocket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            ArrayList<String> replies = new ArrayList<>();
+
+            // Act
+            for (Socket socket : new Socket[]{firstSocket, secondSocket}) {
+                socket.setSoTimeout(10_000);
+                PrintWriter writer = new PrintWriter(socket.getOutputStream(), true);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                writer.println("MOVE 5 0 3 2");
+                writer.println("MOVE 5 0 4 1");
+                replies.add(reader.readLine());
+                replies.add(reader.readLine());
+                replies.add(reader.readLine());
+            }
+
+            // Assert
+            for (int i = 0; i < replies.size(); i += 3) {
+                assertTrue(replies.get(i).startsWith("ERROR"));
+                assertEquals("OK R:R1,2,3,4,5,6,7,8,9,10,11,12:B17,22,23,24,25,26,27,28,29,30,31,32", replies.get(i + 1));
+                assertTrue(replies.get(i + 2).startsWith("COMPUTER B:"));
+            }
+            assertEquals(2, server.getStats().getTotalSessions());
+            assertEquals(2, server.getStats().getHumanMoves());
+            assertEquals(2, server.getStats().getComputerMoves());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void pdnReader_returnTrue_whenGameWrittenByPdnWriterIsReadAgain() throws IOException {
+        // Arrange
+        String pdn = "[Event \"Test\"]\n[Result \"1-0\"]\n"
+                + "1. 11-15 22-18 {Comment} 2. 15x22 25x18 (2... 26x17 $1) 3. 8-11 29-25 4. 4-8 25-22 1-0\n";
+        PdnGame game = new PdnReader(new StringReader(pdn)).readGame()
+                .orElseThrow(() -> new IllegalStateException("No game"));
+        StringWriter writtenPdn = new StringWriter();
+
+        // Act
+        new PdnWriter(writtenPdn).write(game);
+        PdnGame writtenGame = new PdnReader(new StringReader(writtenPdn.toString())).readGame()
+                .orElseThrow(() -> new IllegalStateException("No game"));
+
+        // Assert
+        assertEquals(8, game.getMoveCount());
+        // The standard squares 11 and 15 are the squares 21 and 17 of the engine.
+        assertEquals(Move.encode(21, 17, 0, false), game.getMove(0));
+        assertEquals("1-0", game.getResult());
+        assertEquals(Optional.of("Test"), game.getTag("Event"));
+        assertArrayEquals(game.getMoves(), writtenGame.getMoves());
+        assertEquals(game.getTags(), writtenGame.getTags());
+        assertEquals(game.getEndPosition(), writtenGame.getEndPosition());
+    }
+
+    @Test
+    void pdnReader_returnTrue_whenGameWithIllegalMoveIsSkipped() throws IOException {
+        // Arrange
+        String pdn = "[Event \"Broken\"]\n1. 11-15 11-16 *\n\n"
+                + "[FEN \"W:WK27:B16,24\"]\n1... 27x20x11 0-1\n";
+        PdnReader reader = new PdnReader(new StringReader(pdn));
+
+        // Act
+        assertThrows(IllegalArgumentException.class, reader::readGame);
+        Optional<PdnGame> game = reader.readGame();
+        Optional<PdnGame> noGame = reader.readGame();
+
+        // Assert
+        assertTrue(game.isPresent());
+        assertEquals(1, game.get().getMoveCount());
+        assertEquals("B:RK22:B", game.get().getEndPosition().toFen());
+        assertFalse(noGame.isPresent());
+    }
+
+    @Test
+    void gameArchive_returnTrue_whenArchivedGamesArePlayedAgainFromTheArchive(@TempDir Path directory) throws IOException {
+        // Arrange
+        String pdn = "[Result \"1-0\"]\n1. 11-15 22-18 2. 15x22 25x18 3. 8-11 29-25 1-0\n\n"
+                + "[FEN \"W:WK27:B16,24\"]\n1... 27x20x11 0-1\n";
+        PdnReader reader = new PdnReader(new StringReader(pdn));
+        PdnGame firstGame = reader.readGame().orElseThrow(() -> new IllegalStateException("No game"));
+        PdnGame secondGame = reader.readGame().orElseThrow(() -> new IllegalStateException("No game"));
+        Path file = directory.resolve("games.archive");
+
+        // Act
+        try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+            writer.add(firstGame);
+            writer.add(secondGame);
+        }
+        GameArchive archive = new GameArchive(file);
+
+        // Assert
+        assertEquals(2, archive.getGameCount());
+        assertEquals(9, archive.getPositionCount());
+        assertArrayEquals(firstGame.getMoves(), archive.getGame(0).getMoves());
+        assertEquals("1-0", archive.getGame(0).getResult());
+        assertArrayEquals(secondGame.getMoves(), archive.getGame(1).getMoves());
+        assertEquals(secondGame.getStartPosition(), archive.getGame(1).getStartPosition());
+        assertEquals(1, archive.getGameOfPosition(7));
+        assertEquals(secondGame.getEndPosition(), archive.getPosition(8));
+        assertEquals(firstGame.getEndPosition(), archive.getPosition(6));
+    }
+
+    @Test
+    void positionIndex_returnTrue_whenPositionIsFoundInAllGamesItOccurredIn(@TempDir Path directory) throws IOException {
+        // Arrange
+        String pdn = "[Result \"1-0\"]\n1. 11-15 22-18 2. 15x22 25x18 1-0\n\n"
+                + "[Result \"1/2-1/2\"]\n1. 11-15 23-19 1/2-1/2\n\n"
+                + "[Result \"0-1\"]\n1. 9-14 22-18 0-1\n";
+        Path archiveFile = directory.resolve("games.archive");
+        Path indexFile = directory.resolve("positions.index");
+        PdnReader reader = new PdnReader(new StringReader(pdn));
+        try (GameArchiveWriter writer = new GameArchiveWriter(archiveFile)) {
+            Optional<PdnGame> game;
+            while ((game = reader.readGame()).isPresent()) {
+                writer.add(game.get());
+            }
+        }
+        Position positionAfterFirstMove = Position.createStartingPosition();
+        positionAfterFirstMove.makeMove(Move.encode(21, 17, 0, false));
+
+        // Act
+        new PositionIndexBuilder(indexFile).build(new GameArchive(archiveFile));
+        PositionIndex index = new PositionIndex(indexFile);
+        Optional<PositionStatistics> statistics = index.getStatistics(positionAfterFirstMove);
+
+        // Assert
+        assertEquals(11, index.getOccurrenceCount());
+        assertEquals(8, index.getKeyCount());
+        assertTrue(statistics.isPresent());
+        assertEquals(2, statistics.get().getOccurrenceCount());
+        assertEquals(1, statistics.get().getBlackWins());
+        assertEquals(1, statistics.get().getDraws());
+        assertEquals(Arrays.asList(new PositionOccurrence(0, 1), new PositionOccurrence(1, 1)),
+                index.findOccurrences(positionAfterFirstMove, 10));
+        assertEquals(3, index.getStatistics(Position.createStartingPosition()).get().getOccurrenceCount());
+        assertFalse(index.getStatistics(Position.fromFen("B:R1:B32")).isPresent());
+    }
+
+    @Test
+    void chooseMove_returnTrue_whenChosenMoveIsLegalAndBoardIsOnlyChangedByPlayingIt() {
+        // Arrange
+        Position position = fieldManagerService.getPosition();
+        position.setSideToMove(Piece.PieceColor.RED);
+        MoveList legalMoves = new MoveList();
+        MoveGenerator.generateMoves(position, legalMoves);
+
+        // Act
+        long move = computerPlayerService.chooseMove(position);
+        Position positionAfterChoosing = fieldManagerService.getPosition();
+        computerPlayerService.playMove(move);
+        Position positionAfterPlaying = fieldManagerService.getPosition();
+
+        // Assert
+        assertTrue(legalMoves.contains(move));
+        assertEquals(Position.createStartingPosition(), positionAfterChoosing);
+        position.makeMove(move);
+        position.setSideToMove(Piece.PieceColor.BLACK);
+        assertEquals(position, positionAfterPlaying);
+    }
 }